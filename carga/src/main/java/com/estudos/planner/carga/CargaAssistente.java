@@ -0,0 +1,207 @@
+package com.estudos.planner.carga;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class CargaAssistente {
+
+    private static final String CABECALHO_SQL = "X-Sql-Instrucoes";
+    private static final Pattern MINI_TEMA_ID = Pattern.compile("name=\"miniTemaIds\"\\s+value=\"(\\d+)\"");
+
+    private final List<String> nos;
+    private final int iteracoes;
+    private final Metricas metricas = new Metricas();
+    private final AtomicInteger fluxosConcluidos = new AtomicInteger();
+    private final ThreadLocal<AtomicInteger> proximoNo = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public CargaAssistente(List<String> nos, int iteracoes) {
+        this.nos = nos;
+        this.iteracoes = iteracoes;
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> nos = Arrays.asList(System.getProperty("carga.urls",
+                System.getProperty("carga.url", "http://localhost:8080")).split(","));
+        int usuarios = Integer.getInteger("carga.usuarios", 20);
+        int iteracoes = Integer.getInteger("carga.iteracoes", 5);
+
+        System.out.printf("Carga em %s: %d usuários x %d objetivos%n", nos, usuarios, iteracoes);
+
+        CargaAssistente carga = new CargaAssistente(nos, iteracoes);
+        ExecutorService executor = Executors.newFixedThreadPool(usuarios);
+        long inicio = System.nanoTime();
+
+        List<Future<?>> usuariosVirtuais = new ArrayList<>();
+        for (int i = 0; i < usuarios; i++) {
+            int indice = i;
+            usuariosVirtuais.add(executor.submit(() -> carga.executarUsuario(indice)));
+        }
+        for (Future<?> usuario : usuariosVirtuais) {
+            usuario.get();
+        }
+
+        executor.shutdown();
+        carga.metricas.imprimir(System.nanoTime() - inicio, carga.fluxosConcluidos.get());
+    }
+
+    private void executarUsuario(int indice) {
+        HttpClient cliente = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        String email = "carga" + indice + "-" + System.currentTimeMillis() + "@carga.local";
+
+        try {
+            HttpResponse<String> cadastro = enviar(cliente, "cadastro", formulario("/cadastro", Map.of(
+                    "nome", "Usuário Carga " + indice,
+                    "email", email,
+                    "senha", "carga123",
+                    "confirmarSenha", "carga123")), r -> r.statusCode() == 302);
+            HttpResponse<String> login = enviar(cliente, "login", formulario("/login", Map.of(
+                    "username", email,
+                    "password", "carga123")), r -> destino(r).endsWith("/dashboard"));
+
+            if (cadastro == null || login == null) {
+                return;
+            }
+
+            for (int i = 0; i < iteracoes; i++) {
+                if (executarAssistente(cliente, indice, i)) {
+                    fluxosConcluidos.incrementAndGet();
+                }
+            }
+        } catch (Exception e) {
+            System.err.printf("Usuário %d interrompido: %s%n", indice, e);
+        }
+    }
+
+    private boolean executarAssistente(HttpClient cliente, int usuario, int iteracao) throws Exception {
+        HttpResponse<String> etapa1 = enviar(cliente, "etapa1", formulario("/objetivos/novo/etapa1", Map.of(
+                "temaPrincipal", "Tema " + usuario + "." + iteracao,
+                "dataLimite", LocalDate.now().plusDays(60).toString())), r -> destino(r).contains("/etapa2/"));
+        if (etapa1 == null) {
+            return false;
+        }
+        String id = destino(etapa1).substring(destino(etapa1).lastIndexOf('/') + 1);
+
+        HttpResponse<String> sugestoes = enviar(cliente, "sugerir-temas",
+                requisicao("/objetivos/" + id + "/sugerir-temas").POST(HttpRequest.BodyPublishers.noBody()),
+                r -> r.statusCode() == 200 && r.body().startsWith("[{"));
+        if (sugestoes == null) {
+            return false;
+        }
+
+        HttpResponse<String> etapa2 = enviar(cliente, "etapa2", requisicao("/objetivos/novo/etapa2/" + id)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(sugestoes.body())), r -> destino(r).contains("/etapa3/"));
+        if (etapa2 == null) {
+            return false;
+        }
+
+        HttpResponse<String> etapa3Form = enviar(cliente, "etapa3-form",
+                requisicao("/objetivos/novo/etapa3/" + id).GET(), r -> r.statusCode() == 200);
+        if (etapa3Form == null) {
+            return false;
+        }
+
+        StringBuilder cargas = new StringBuilder();
+        Matcher matcher = MINI_TEMA_ID.matcher(etapa3Form.body());
+        while (matcher.find()) {
+            cargas.append(cargas.length() == 0 ? "" : "&")
+                    .append("miniTemaIds=").append(matcher.group(1)).append("&cargas=4");
+        }
+
+        HttpResponse<String> etapa3 = enviar(cliente, "etapa3", requisicao("/objetivos/novo/etapa3/" + id)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(cargas.toString())), r -> destino(r).contains("/etapa4/"));
+        if (etapa3 == null) {
+            return false;
+        }
+
+        HttpResponse<String> etapa4 = enviar(cliente, "etapa4", formulario("/objetivos/novo/etapa4/" + id, Map.of(
+                "horasPorDia", "4",
+                "diasEstudo", "SEG,TER,QUA,QUI,SEX,SAB,DOM")), r -> destino(r).endsWith("/geracao"));
+        if (etapa4 == null) {
+            return false;
+        }
+
+        String objetivoId = destino(etapa4).replaceAll(".*/objetivos/(-?\\d+)/geracao$", "$1");
+        if (!aguardarGeracao(cliente, objetivoId)) {
+            return false;
+        }
+
+        return enviar(cliente, "calendario", requisicao("/calendario/tarefas").GET(),
+                r -> r.statusCode() == 200) != null;
+    }
+
+    private boolean aguardarGeracao(HttpClient cliente, String id) throws Exception {
+        long inicio = System.nanoTime();
+        long limite = inicio + Duration.ofSeconds(60).toNanos();
+
+        while (System.nanoTime() < limite) {
+            HttpResponse<String> status = cliente.send(requisicao("/objetivos/" + id + "/geracao/status").GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (status.body().contains("\"CONCLUIDO\"") || status.body().contains("\"FALHOU\"")) {
+                boolean concluido = status.body().contains("\"CONCLUIDO\"");
+                metricas.registrar("geracao", System.nanoTime() - inicio, -1, concluido);
+                return concluido;
+            }
+            Thread.sleep(100);
+        }
+
+        metricas.registrar("geracao", System.nanoTime() - inicio, -1, false);
+        return false;
+    }
+
+    private HttpResponse<String> enviar(HttpClient cliente, String etapa, HttpRequest.Builder requisicao,
+                                        Predicate<HttpResponse<String>> sucesso) throws Exception {
+        long inicio = System.nanoTime();
+        HttpResponse<String> resposta = cliente.send(requisicao.build(), HttpResponse.BodyHandlers.ofString());
+        long duracao = System.nanoTime() - inicio;
+
+        int instrucoesSql = resposta.headers().firstValue(CABECALHO_SQL).map(Integer::parseInt).orElse(-1);
+        boolean ok = sucesso.test(resposta);
+        metricas.registrar(etapa, duracao, instrucoesSql, ok);
+
+        return ok ? resposta : null;
+    }
+
+    private HttpRequest.Builder requisicao(String caminho) {
+        String no = nos.get(Math.floorMod(proximoNo.get().getAndIncrement(), nos.size()));
+        return HttpRequest.newBuilder(URI.create(no + caminho)).timeout(Duration.ofSeconds(60));
+    }
+
+    private HttpRequest.Builder formulario(String caminho, Map<String, String> campos) {
+        String corpo = campos.entrySet().stream()
+                .map(c -> c.getKey() + "=" + URLEncoder.encode(c.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return requisicao(caminho)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo));
+    }
+
+    private static String destino(HttpResponse<String> resposta) {
+        return resposta.headers().firstValue("Location").orElse("");
+    }
+}
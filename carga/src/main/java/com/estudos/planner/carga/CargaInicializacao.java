@@ -0,0 +1,116 @@
+package com.estudos.planner.carga;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class CargaInicializacao {
+
+    private final List<String> comando;
+    private final File diretorio;
+    private final URI url;
+    private final Duration esperaMaxima;
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    public CargaInicializacao(List<String> comando, File diretorio, URI url, Duration esperaMaxima) {
+        this.comando = comando;
+        this.diretorio = diretorio;
+        this.url = url;
+        this.esperaMaxima = esperaMaxima;
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> comando = Arrays.asList(System.getProperty("carga.comando",
+                "java -jar ../target/planner-1.0.0.jar --spring.profiles.active=h2,gemini-stub").trim().split("\\s+"));
+        File diretorio = new File(System.getProperty("carga.diretorio", "."));
+        URI url = URI.create(System.getProperty("carga.url", "http://localhost:8080/"));
+        int execucoes = Integer.getInteger("carga.execucoes", 5);
+        Duration esperaMaxima = Duration.ofSeconds(Integer.getInteger("carga.espera-maxima-s", 120));
+
+        System.out.printf("Inicialização: %d execuções de [%s], primeira resposta de %s%n",
+                execucoes, String.join(" ", comando), url);
+
+        CargaInicializacao carga = new CargaInicializacao(comando, diretorio, url, esperaMaxima);
+        List<Long> tempos = new ArrayList<>();
+        List<Long> memorias = new ArrayList<>();
+        for (int i = 1; i <= execucoes; i++) {
+            long[] medicao = carga.medir();
+            tempos.add(medicao[0]);
+            memorias.add(medicao[1]);
+            System.out.printf("  execução %d: primeira resposta em %d ms, RSS %d MB%n", i, medicao[0], medicao[1]);
+        }
+
+        System.out.printf("%nPrimeira resposta: mediana %d ms (mín %d, máx %d) | RSS: mediana %d MB%n",
+                mediana(tempos), Collections.min(tempos), Collections.max(tempos), mediana(memorias));
+    }
+
+    private long[] medir() throws Exception {
+        long inicio = System.nanoTime();
+        Process processo = new ProcessBuilder(comando)
+                .directory(diretorio)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long limite = inicio + esperaMaxima.toNanos();
+            while (!respondeu()) {
+                if (!processo.isAlive()) {
+                    throw new IllegalStateException("Aplicação encerrou com código " + processo.exitValue());
+                }
+                if (System.nanoTime() > limite) {
+                    throw new IllegalStateException("Sem resposta após " + esperaMaxima.toSeconds() + "s");
+                }
+                Thread.sleep(20);
+            }
+            long milissegundos = (System.nanoTime() - inicio) / 1_000_000;
+            return new long[]{milissegundos, rssMegabytes(processo.pid())};
+        } finally {
+            processo.destroy();
+            processo.waitFor();
+        }
+    }
+
+    private boolean respondeu() {
+        try {
+            HttpResponse<Void> resposta = cliente.send(HttpRequest.newBuilder(url)
+                    .timeout(Duration.ofSeconds(30)).GET().build(), HttpResponse.BodyHandlers.discarding());
+            return resposta.statusCode() < 500;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long rssMegabytes(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(linha -> linha.startsWith("VmRSS:"))
+                .map(linha -> Long.parseLong(linha.replaceAll("\\D", "")) / 1024)
+                .findFirst()
+                .orElse(-1L);
+    }
+
+    private static long mediana(List<Long> valores) {
+        List<Long> ordenados = new ArrayList<>(valores);
+        Collections.sort(ordenados);
+        return ordenados.get(ordenados.size() / 2);
+    }
+}
@@ -0,0 +1,136 @@
+package com.estudos.planner.carga;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+public class CargaSessoes {
+
+    private final List<String> nos;
+    private final int requisicoes;
+    private final String caminho;
+    private final Metricas metricas = new Metricas();
+
+    public CargaSessoes(List<String> nos, int requisicoes, String caminho) {
+        this.nos = nos;
+        this.requisicoes = requisicoes;
+        this.caminho = caminho;
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> nos = Arrays.asList(System.getProperty("carga.urls", "http://localhost:8080").split(","));
+        int usuarios = Integer.getInteger("carga.usuarios", 20);
+        int requisicoes = Integer.getInteger("carga.requisicoes", 50);
+        String caminho = System.getProperty("carga.caminho", "/calendario");
+
+        System.out.printf("Sessões em %s: %d usuários, login e %d x GET %s alternando entre os nós%n",
+                nos, usuarios, requisicoes, caminho);
+
+        CargaSessoes carga = new CargaSessoes(nos, requisicoes, caminho);
+        ExecutorService executor = Executors.newFixedThreadPool(usuarios);
+
+        List<HttpClient> clientes = new ArrayList<>();
+        List<Future<Boolean>> cadastros = new ArrayList<>();
+        for (int i = 0; i < usuarios; i++) {
+            HttpClient cliente = HttpClient.newBuilder()
+                    .cookieHandler(new CookieManager())
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            clientes.add(cliente);
+            int indice = i;
+            cadastros.add(executor.submit(() -> carga.cadastrarEAutenticar(cliente, indice)));
+        }
+
+        long inicio = System.nanoTime();
+        int logins = 0;
+        for (Future<Boolean> cadastro : cadastros) {
+            logins += cadastro.get() ? 1 : 0;
+        }
+        long duracaoLogins = System.nanoTime() - inicio;
+
+        List<Future<?>> leituras = new ArrayList<>();
+        long inicioLeituras = System.nanoTime();
+        for (int i = 0; i < usuarios; i++) {
+            HttpClient cliente = clientes.get(i);
+            int indice = i;
+            leituras.add(executor.submit(() -> carga.ler(cliente, indice)));
+        }
+        for (Future<?> leitura : leituras) {
+            leitura.get();
+        }
+        long duracaoLeituras = System.nanoTime() - inicioLeituras;
+
+        executor.shutdown();
+        carga.metricas.imprimir(duracaoLogins + duracaoLeituras, logins);
+        System.out.printf("%nCadastro + login: %d usuários em %.1fs (%.1f/s) | leituras: %.1f req/s%n", logins,
+                duracaoLogins / 1e9, logins / (duracaoLogins / 1e9),
+                (double) usuarios * requisicoes / (duracaoLeituras / 1e9));
+    }
+
+    private boolean cadastrarEAutenticar(HttpClient cliente, int indice) throws Exception {
+        String email = "sessao" + indice + "-" + System.currentTimeMillis() + "@carga.local";
+
+        boolean cadastrado = enviar(cliente, "cadastro", formulario(no(indice) + "/cadastro", Map.of(
+                "nome", "Usuário Sessão " + indice,
+                "email", email,
+                "senha", "carga123",
+                "confirmarSenha", "carga123")), 302, "/login");
+
+        return cadastrado && enviar(cliente, "login", formulario(no(indice + 1) + "/login", Map.of(
+                "username", email,
+                "password", "carga123")), 302, "/dashboard");
+    }
+
+    private void ler(HttpClient cliente, int indice) {
+        try {
+            for (int i = 0; i < requisicoes; i++) {
+                int no = (indice + i) % nos.size();
+                enviar(cliente, "leitura-no" + (no + 1),
+                        HttpRequest.newBuilder(URI.create(nos.get(no) + caminho)).GET(), 200, null);
+            }
+        } catch (Exception e) {
+            System.err.printf("Usuário %d interrompido: %s%n", indice, e);
+        }
+    }
+
+    private boolean enviar(HttpClient cliente, String etapa, HttpRequest.Builder requisicao,
+                           int statusEsperado, String destinoEsperado) throws Exception {
+        long inicio = System.nanoTime();
+        HttpResponse<String> resposta = cliente.send(requisicao.timeout(Duration.ofSeconds(60)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        long duracao = System.nanoTime() - inicio;
+
+        boolean ok = resposta.statusCode() == statusEsperado && (destinoEsperado == null
+                || resposta.headers().firstValue("Location").orElse("").endsWith(destinoEsperado));
+        int instrucoesSql = resposta.headers().firstValue("X-Sql-Instrucoes").map(Integer::parseInt).orElse(-1);
+        metricas.registrar(etapa, duracao, instrucoesSql, ok);
+        return ok;
+    }
+
+    private String no(int indice) {
+        return nos.get(indice % nos.size());
+    }
+
+    private static HttpRequest.Builder formulario(String url, Map<String, String> campos) {
+        String corpo = campos.entrySet().stream()
+                .map(c -> c.getKey() + "=" + URLEncoder.encode(c.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo));
+    }
+}
@@ -0,0 +1,261 @@
+package com.estudos.planner.carga;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class CargaTarefasLote {
+
+    private static final Pattern MINI_TEMA_ID = Pattern.compile("name=\"miniTemaIds\"\\s+value=\"(-?\\d+)\"");
+    private static final Pattern TAREFA_ID = Pattern.compile("\"tarefaId\":(\\d+)");
+    private static final int MINI_TEMAS = 10;
+
+    private final String url;
+    private final int rodadas;
+    private final int tamanhoLote;
+    private final Metricas metricas = new Metricas();
+    private final AtomicLong operacoesIndividuais = new AtomicLong();
+    private final AtomicLong operacoesEmLote = new AtomicLong();
+
+    public CargaTarefasLote(String url, int rodadas, int tamanhoLote) {
+        this.url = url;
+        this.rodadas = rodadas;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("carga.url", "http://localhost:8080");
+        int usuarios = Integer.getInteger("carga.usuarios", 10);
+        int rodadas = Integer.getInteger("carga.rodadas", 3);
+        int tamanhoLote = Integer.getInteger("carga.lote", 50);
+
+        System.out.printf("Tarefas em %s: %d usuários, %d rodadas de concluir + desmarcar todas as tarefas, "
+                + "uma a uma e em lotes de %d%n", url, usuarios, rodadas, tamanhoLote);
+
+        CargaTarefasLote carga = new CargaTarefasLote(url, rodadas, tamanhoLote);
+        ExecutorService executor = Executors.newFixedThreadPool(usuarios);
+
+        List<HttpClient> clientes = new ArrayList<>();
+        List<Future<List<Long>>> preparacoes = new ArrayList<>();
+        for (int i = 0; i < usuarios; i++) {
+            HttpClient cliente = HttpClient.newBuilder()
+                    .cookieHandler(new CookieManager())
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            clientes.add(cliente);
+            int indice = i;
+            preparacoes.add(executor.submit(() -> carga.preparar(cliente, indice)));
+        }
+
+        List<List<Long>> tarefasPorUsuario = new ArrayList<>();
+        for (Future<List<Long>> preparacao : preparacoes) {
+            tarefasPorUsuario.add(preparacao.get());
+        }
+        int tarefas = tarefasPorUsuario.stream().mapToInt(List::size).sum();
+        int objetivos = (int) tarefasPorUsuario.stream().filter(t -> !t.isEmpty()).count();
+        System.out.printf("%d tarefas em %d objetivos gerados%n", tarefas, objetivos);
+
+        long duracaoIndividual = executarFase(executor, usuarios,
+                i -> () -> carga.alternarIndividual(clientes.get(i), tarefasPorUsuario.get(i)));
+        long duracaoLote = executarFase(executor, usuarios,
+                i -> () -> carga.alternarEmLote(clientes.get(i), tarefasPorUsuario.get(i)));
+
+        executor.shutdown();
+        carga.metricas.imprimir(duracaoIndividual + duracaoLote, objetivos);
+
+        double vazaoIndividual = carga.operacoesIndividuais.get() / (duracaoIndividual / 1e9);
+        double vazaoLote = carga.operacoesEmLote.get() / (duracaoLote / 1e9);
+        System.out.printf("%nUma a uma: %d operações em %.1fs (%.1f tarefas/s)%n",
+                carga.operacoesIndividuais.get(), duracaoIndividual / 1e9, vazaoIndividual);
+        System.out.printf("Em lote:   %d operações em %.1fs (%.1f tarefas/s), %.1fx%n",
+                carga.operacoesEmLote.get(), duracaoLote / 1e9, vazaoLote, vazaoLote / vazaoIndividual);
+    }
+
+    private static long executarFase(ExecutorService executor, int usuarios,
+                                     IntFunction<Callable<Void>> fase) throws Exception {
+        long inicio = System.nanoTime();
+        List<Future<Void>> execucoes = new ArrayList<>();
+        for (int i = 0; i < usuarios; i++) {
+            execucoes.add(executor.submit(fase.apply(i)));
+        }
+        for (Future<Void> execucao : execucoes) {
+            execucao.get();
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    private List<Long> preparar(HttpClient cliente, int indice) throws Exception {
+        String email = "lote" + indice + "-" + System.currentTimeMillis() + "@carga.local";
+
+        HttpResponse<String> cadastro = enviar(cliente, "cadastro", formulario("/cadastro", Map.of(
+                "nome", "Usuário Lote " + indice,
+                "email", email,
+                "senha", "carga123",
+                "confirmarSenha", "carga123")), 302);
+        HttpResponse<String> login = cadastro == null ? null : enviar(cliente, "login", formulario("/login", Map.of(
+                "username", email,
+                "password", "carga123")), 302);
+        if (login == null || !destino(login).endsWith("/dashboard")) {
+            return List.of();
+        }
+
+        HttpResponse<String> etapa1 = enviar(cliente, "etapa1", formulario("/objetivos/novo/etapa1", Map.of(
+                "temaPrincipal", "Lote " + indice,
+                "dataLimite", LocalDate.now().plusDays(60).toString())), 302);
+        if (etapa1 == null || !destino(etapa1).contains("/etapa2/")) {
+            return List.of();
+        }
+        String id = destino(etapa1).substring(destino(etapa1).lastIndexOf('/') + 1);
+
+        String miniTemas = IntStream.rangeClosed(1, MINI_TEMAS)
+                .mapToObj(i -> "{\"nome\":\"Mini-tema " + i + "\",\"descricao\":\"carga\",\"horasEstimadas\":10,"
+                        + "\"selecionado\":true,\"sugeridoPorIA\":false}")
+                .collect(Collectors.joining(",", "[", "]"));
+        if (enviar(cliente, "etapa2", requisicao("/objetivos/novo/etapa2/" + id)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(miniTemas)), 302) == null) {
+            return List.of();
+        }
+
+        HttpResponse<String> etapa3Form = enviar(cliente, "etapa3-form",
+                requisicao("/objetivos/novo/etapa3/" + id).GET(), 200);
+        if (etapa3Form == null) {
+            return List.of();
+        }
+        StringBuilder cargas = new StringBuilder();
+        Matcher matcher = MINI_TEMA_ID.matcher(etapa3Form.body());
+        while (matcher.find()) {
+            cargas.append(cargas.length() == 0 ? "" : "&")
+                    .append("miniTemaIds=").append(matcher.group(1)).append("&cargas=10");
+        }
+        if (enviar(cliente, "etapa3", requisicao("/objetivos/novo/etapa3/" + id)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(cargas.toString())), 302) == null) {
+            return List.of();
+        }
+
+        HttpResponse<String> etapa4 = enviar(cliente, "etapa4", formulario("/objetivos/novo/etapa4/" + id, Map.of(
+                "horasPorDia", "4",
+                "diasEstudo", "SEG,TER,QUA,QUI,SEX,SAB,DOM")), 302);
+        if (etapa4 == null || !destino(etapa4).endsWith("/geracao")) {
+            return List.of();
+        }
+        String objetivoId = destino(etapa4).replaceAll(".*/objetivos/(-?\\d+)/geracao$", "$1");
+
+        long limite = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+        while (System.nanoTime() < limite) {
+            String status = cliente.send(requisicao("/objetivos/" + objetivoId + "/geracao/status").GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            if (status.contains("\"CONCLUIDO\"")) {
+                break;
+            }
+            if (status.contains("\"FALHOU\"")) {
+                return List.of();
+            }
+            Thread.sleep(100);
+        }
+
+        HttpResponse<String> calendario = enviar(cliente, "calendario", requisicao("/calendario/tarefas").GET(), 200);
+        List<Long> tarefas = new ArrayList<>();
+        if (calendario != null) {
+            Matcher tarefa = TAREFA_ID.matcher(calendario.body());
+            while (tarefa.find()) {
+                tarefas.add(Long.parseLong(tarefa.group(1)));
+            }
+        }
+        return tarefas;
+    }
+
+    private Void alternarIndividual(HttpClient cliente, List<Long> tarefas) throws Exception {
+        for (int rodada = 0; rodada < rodadas; rodada++) {
+            for (String operacao : List.of("concluir", "desmarcar")) {
+                for (Long tarefa : tarefas) {
+                    if (enviar(cliente, operacao, requisicao("/tarefas/" + tarefa + "/" + operacao)
+                            .POST(HttpRequest.BodyPublishers.noBody()), 200) != null) {
+                        operacoesIndividuais.incrementAndGet();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private Void alternarEmLote(HttpClient cliente, List<Long> tarefas) throws Exception {
+        for (int rodada = 0; rodada < rodadas; rodada++) {
+            for (String operacao : List.of("CONCLUIR", "DESMARCAR")) {
+                for (int inicio = 0; inicio < tarefas.size(); inicio += tamanhoLote) {
+                    List<Long> lote = tarefas.subList(inicio, Math.min(inicio + tamanhoLote, tarefas.size()));
+                    String corpo = lote.stream()
+                            .map(tarefa -> "{\"tarefaId\":" + tarefa + ",\"operacao\":\"" + operacao + "\"}")
+                            .collect(Collectors.joining(",", "[", "]"));
+
+                    HttpResponse<String> resposta = enviar(cliente, "lote-" + operacao.toLowerCase(),
+                            requisicao("/tarefas/lote")
+                                    .header("Content-Type", "application/json")
+                                    .POST(HttpRequest.BodyPublishers.ofString(corpo)), 200);
+                    if (resposta != null) {
+                        operacoesEmLote.addAndGet(contar(resposta.body(), "\"sucesso\":true"));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private HttpResponse<String> enviar(HttpClient cliente, String etapa, HttpRequest.Builder requisicao,
+                                        int statusEsperado) throws Exception {
+        long inicio = System.nanoTime();
+        HttpResponse<String> resposta = cliente.send(requisicao.build(), HttpResponse.BodyHandlers.ofString());
+        long duracao = System.nanoTime() - inicio;
+
+        boolean ok = resposta.statusCode() == statusEsperado;
+        int instrucoesSql = resposta.headers().firstValue("X-Sql-Instrucoes").map(Integer::parseInt).orElse(-1);
+        metricas.registrar(etapa, duracao, instrucoesSql, ok);
+        return ok ? resposta : null;
+    }
+
+    private HttpRequest.Builder requisicao(String caminho) {
+        return HttpRequest.newBuilder(URI.create(url + caminho)).timeout(Duration.ofSeconds(60));
+    }
+
+    private HttpRequest.Builder formulario(String caminho, Map<String, String> campos) {
+        String corpo = campos.entrySet().stream()
+                .map(c -> c.getKey() + "=" + URLEncoder.encode(c.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return requisicao(caminho)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo));
+    }
+
+    private static int contar(String texto, String trecho) {
+        int total = 0;
+        for (int i = texto.indexOf(trecho); i >= 0; i = texto.indexOf(trecho, i + trecho.length())) {
+            total++;
+        }
+        return total;
+    }
+
+    private static String destino(HttpResponse<String> resposta) {
+        return resposta.headers().firstValue("Location").orElse("");
+    }
+}
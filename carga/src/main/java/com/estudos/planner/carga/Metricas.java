@@ -0,0 +1,63 @@
+package com.estudos.planner.carga;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Metricas {
+
+    private final Map<String, Etapa> etapas = new LinkedHashMap<>();
+
+    public synchronized void registrar(String etapa, long nanos, int instrucoesSql, boolean sucesso) {
+        Etapa e = etapas.computeIfAbsent(etapa, nome -> new Etapa());
+        e.latenciasNanos.add(nanos);
+        if (instrucoesSql >= 0) {
+            e.instrucoesSql.add(instrucoesSql);
+        }
+        if (!sucesso) {
+            e.erros++;
+        }
+    }
+
+    public synchronized void imprimir(long duracaoNanos, int fluxosConcluidos) {
+        double segundos = duracaoNanos / 1_000_000_000.0;
+        long requisicoes = etapas.values().stream().mapToLong(e -> e.latenciasNanos.size()).sum();
+
+        System.out.printf("%nDuração: %.1fs | fluxos concluídos: %d (%.2f/s) | requisições: %d (%.1f/s)%n%n",
+                segundos, fluxosConcluidos, fluxosConcluidos / segundos, requisicoes, requisicoes / segundos);
+        System.out.printf("%-16s %6s %6s %9s %9s %9s %9s %9s %8s %8s%n",
+                "etapa", "n", "erros", "média ms", "p50 ms", "p90 ms", "p99 ms", "máx ms", "sql méd", "sql máx");
+
+        etapas.forEach((nome, e) -> {
+            List<Long> ordenadas = new ArrayList<>(e.latenciasNanos);
+            Collections.sort(ordenadas);
+            double media = ordenadas.stream().mapToLong(Long::longValue).average().orElse(0) / 1_000_000.0;
+            String sqlMedia = e.instrucoesSql.isEmpty() ? "-"
+                    : String.format("%.1f", e.instrucoesSql.stream().mapToInt(Integer::intValue).average().orElse(0));
+            String sqlMaximo = e.instrucoesSql.isEmpty() ? "-"
+                    : String.valueOf(e.instrucoesSql.stream().mapToInt(Integer::intValue).max().orElse(0));
+
+            System.out.printf("%-16s %6d %6d %9.1f %9.1f %9.1f %9.1f %9.1f %8s %8s%n",
+                    nome, ordenadas.size(), e.erros, media,
+                    percentil(ordenadas, 50), percentil(ordenadas, 90), percentil(ordenadas, 99),
+                    ordenadas.isEmpty() ? 0 : ordenadas.get(ordenadas.size() - 1) / 1_000_000.0,
+                    sqlMedia, sqlMaximo);
+        });
+    }
+
+    private static double percentil(List<Long> ordenadas, int percentil) {
+        if (ordenadas.isEmpty()) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil / 100.0 * ordenadas.size()) - 1;
+        return ordenadas.get(Math.max(indice, 0)) / 1_000_000.0;
+    }
+
+    private static class Etapa {
+        final List<Long> latenciasNanos = new ArrayList<>();
+        final List<Integer> instrucoesSql = new ArrayList<>();
+        int erros;
+    }
+}
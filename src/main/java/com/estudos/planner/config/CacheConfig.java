@@ -0,0 +1,60 @@
+package com.estudos.planner.config;
+
+import com.estudos.planner.model.MiniTema;
+import com.estudos.planner.model.Objetivo;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+import java.util.List;
+
+@Configuration
+@Slf4j
+public class CacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager jcacheCacheManager() throws IOException {
+        return Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager(new ClassPathResource("ehcache.xml").getURI(), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheManagerHibernate(
+            CacheManager jcacheCacheManager,
+            @Value("${planner.rascunho.memoria.habilitado:true}") boolean rascunhosNaSessao) {
+        return propriedades -> {
+            propriedades.put(ConfigSettings.CACHE_MANAGER, jcacheCacheManager);
+
+            // O cache é local a cada nó: mini-temas só entram nele quando são gravados uma única vez, ao concluir o
+            // assistente. Com rascunhos no banco as etapas 2 e 3 os alteram, possivelmente a partir de outro nó
+            if (rascunhosNaSessao) {
+                propriedades.put(AvailableSettings.CLASS_CACHE_PREFIX + "." + MiniTema.class.getName(),
+                        "read-write,miniTemas");
+                propriedades.put(AvailableSettings.COLLECTION_CACHE_PREFIX + "." + Objetivo.class.getName() + ".miniTemas",
+                        "read-write,objetivos.miniTemas");
+            } else {
+                log.info("Rascunhos gravados no banco: mini-temas fora do cache de segundo nível");
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder cacheMetricas(CacheManager jcacheCacheManager) {
+        return registry -> {
+            for (String nome : jcacheCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, jcacheCacheManager.getCache(nome), List.of());
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.estudos.planner.config;
+
+import com.estudos.planner.service.MetricasService;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class CodificadorSenhaLimitado implements PasswordEncoder {
+
+    private final PasswordEncoder codificador;
+    private final ThreadPoolTaskExecutor executor;
+    private final MetricasService metricasService;
+    private final long esperaMaximaMillis;
+
+    public CodificadorSenhaLimitado(PasswordEncoder codificador, ThreadPoolTaskExecutor executor,
+                                    MetricasService metricasService, Duration esperaMaxima) {
+        this.codificador = codificador;
+        this.executor = executor;
+        this.metricasService = metricasService;
+        this.esperaMaximaMillis = esperaMaxima.toMillis();
+    }
+
+    @Override
+    public String encode(CharSequence senha) {
+        return executar("codificar", () -> codificador.encode(senha));
+    }
+
+    @Override
+    public boolean matches(CharSequence senha, String hash) {
+        return executar("verificar", () -> codificador.matches(senha, hash));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String hash) {
+        return codificador.upgradeEncoding(hash);
+    }
+
+    private <T> T executar(String operacao, Callable<T> tarefa) {
+        Timer.Sample amostra = metricasService.iniciarCronometro();
+        Future<T> resultado;
+        try {
+            resultado = executor.submit(tarefa);
+        } catch (TaskRejectedException e) {
+            metricasService.registrarRejeicaoAutenticacao("fila");
+            throw new SobrecargaSenhaException("Fila de hash de senha cheia");
+        }
+
+        try {
+            T valor = resultado.get(esperaMaximaMillis, TimeUnit.MILLISECONDS);
+            metricasService.registrarHashSenha(amostra, operacao);
+            return valor;
+        } catch (TimeoutException e) {
+            resultado.cancel(true);
+            metricasService.registrarRejeicaoAutenticacao("espera");
+            throw new SobrecargaSenhaException("Hash de senha excedeu " + esperaMaximaMillis + "ms na fila");
+        } catch (InterruptedException e) {
+            resultado.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SobrecargaSenhaException("Hash de senha interrompido");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Erro ao processar hash de senha", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.estudos.planner.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+public class ContadorSql implements QueryExecutionListener {
+
+    private static final ThreadLocal<RegistroSql> REGISTRO = new ThreadLocal<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RegistroSql registro = REGISTRO.get();
+        if (registro == null) {
+            return;
+        }
+
+        if (execInfo.isBatch()) {
+            registro.registrar(queryInfoList.get(0).getQuery());
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            registro.registrar(queryInfo.getQuery());
+        }
+    }
+
+    public static RegistroSql iniciar() {
+        RegistroSql registro = new RegistroSql(REGISTRO.get());
+        REGISTRO.set(registro);
+        return registro;
+    }
+
+    public static RegistroSql atual() {
+        return REGISTRO.get();
+    }
+
+    public static void encerrar() {
+        RegistroSql registro = REGISTRO.get();
+        if (registro != null && registro.getExterno() != null) {
+            REGISTRO.set(registro.getExterno());
+        } else {
+            REGISTRO.remove();
+        }
+    }
+
+    public static RegistroSql medir(Runnable acao) {
+        RegistroSql registro = iniciar();
+        try {
+            acao.run();
+            return registro;
+        } finally {
+            encerrar();
+        }
+    }
+}
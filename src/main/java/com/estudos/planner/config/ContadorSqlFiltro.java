@@ -0,0 +1,90 @@
+package com.estudos.planner.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Slf4j
+public class ContadorSqlFiltro extends OncePerRequestFilter {
+
+    public static final String CABECALHO = "X-Sql-Instrucoes";
+
+    private final boolean exporCabecalho;
+    private final int limiteRepeticoes;
+
+    public ContadorSqlFiltro(boolean exporCabecalho, int limiteRepeticoes) {
+        this.exporCabecalho = exporCabecalho;
+        this.limiteRepeticoes = limiteRepeticoes;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RegistroSql registro = ContadorSql.iniciar();
+        try {
+            if (exporCabecalho) {
+                RespostaComContagem resposta = new RespostaComContagem(response, registro);
+                try {
+                    chain.doFilter(request, resposta);
+                } finally {
+                    resposta.registrarContagem();
+                }
+            } else {
+                chain.doFilter(request, response);
+            }
+        } finally {
+            log.debug("{} {} executou {} instruções SQL",
+                    request.getMethod(), request.getRequestURI(), registro.getTotal());
+
+            Map<String, Integer> repetidas = registro.repetidas(limiteRepeticoes);
+            repetidas.forEach((sql, vezes) -> log.warn("Possível N+1 em {} {}: {} execuções de [{}]",
+                    request.getMethod(), request.getRequestURI(), vezes, sql));
+
+            ContadorSql.encerrar();
+        }
+    }
+
+    private static class RespostaComContagem extends ContentCachingResponseWrapper {
+
+        private final RegistroSql registro;
+        private boolean registrada;
+
+        RespostaComContagem(HttpServletResponse response, RegistroSql registro) {
+            super(response);
+            this.registro = registro;
+        }
+
+        void registrarContagem() throws IOException {
+            if (!registrada) {
+                setHeader(CABECALHO, String.valueOf(registro.getTotal()));
+                registrada = true;
+            }
+            copyBodyToResponse();
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            registrarContagem();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            registrarContagem();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            registrarContagem();
+            super.sendError(sc);
+        }
+    }
+}
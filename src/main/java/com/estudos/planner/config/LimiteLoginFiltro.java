@@ -0,0 +1,91 @@
+package com.estudos.planner.config;
+
+import com.estudos.planner.service.MetricasService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+public class LimiteLoginFiltro extends OncePerRequestFilter {
+
+    private static final Set<String> CAMINHOS_LIMITADOS = Set.of("/login", "/cadastro");
+
+    private final MetricasService metricasService;
+    private final int tentativas;
+    private final long janelaMillis;
+    private final Map<String, Balde> baldes;
+
+    public LimiteLoginFiltro(MetricasService metricasService, int tentativas, Duration janela, int maximoEnderecos) {
+        this.metricasService = metricasService;
+        this.tentativas = tentativas;
+        this.janelaMillis = janela.toMillis();
+        this.baldes = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Balde> maisAntigo) {
+                return size() > maximoEnderecos;
+            }
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !CAMINHOS_LIMITADOS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String endereco = request.getRemoteAddr();
+        long agora = System.currentTimeMillis();
+
+        long esperaMillis;
+        synchronized (baldes) {
+            esperaMillis = baldes.computeIfAbsent(endereco, e -> new Balde(tentativas, agora)).consumir(agora);
+        }
+
+        if (esperaMillis > 0) {
+            log.warn("Limite de tentativas atingido para {} em {}", endereco, request.getServletPath());
+            metricasService.registrarRejeicaoAutenticacao("limite-ip");
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, esperaMillis / 1000)));
+            response.sendRedirect(request.getContextPath() + request.getServletPath() + "?limite=true");
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private final class Balde {
+
+        private double fichas;
+        private long atualizadoEm;
+
+        private Balde(double fichas, long atualizadoEm) {
+            this.fichas = fichas;
+            this.atualizadoEm = atualizadoEm;
+        }
+
+        private long consumir(long agora) {
+            double reposicaoPorMillis = (double) tentativas / janelaMillis;
+            fichas = Math.min(tentativas, fichas + (agora - atualizadoEm) * reposicaoPorMillis);
+            atualizadoEm = agora;
+
+            if (fichas >= 1) {
+                fichas--;
+                return 0;
+            }
+            return (long) Math.ceil((1 - fichas) / reposicaoPorMillis);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.estudos.planner.config;
+
+import com.estudos.planner.model.ObjetivoStatus;
+import com.estudos.planner.repository.ObjetivoRepository;
+import com.estudos.planner.service.ReagendamentoAtrasadasService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public MeterBinder reagendamentoMetricas(ReagendamentoAtrasadasService reagendamento) {
+        return registry -> {
+            Gauge.builder("planner.rollover.objetivos.processados", reagendamento,
+                            ReagendamentoAtrasadasService::getObjetivosProcessados)
+                    .description("Objetivos processados pelo reagendamento noturno desde o início")
+                    .register(registry);
+            Gauge.builder("planner.rollover.tarefas.sem.capacidade", reagendamento,
+                            ReagendamentoAtrasadasService::getTarefasSemCapacidade)
+                    .description("Tarefas atrasadas que não couberam em nenhum dia livre")
+                    .register(registry);
+            Gauge.builder("planner.rollover.duracao.ultima", reagendamento,
+                            ReagendamentoAtrasadasService::getDuracaoUltimaExecucaoMs)
+                    .baseUnit("milliseconds")
+                    .description("Duração da última execução do reagendamento noturno")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder rascunhosMetricas(ObjetivoRepository objetivoRepository) {
+        return registry -> Gauge.builder("planner.rascunhos.persistidos", objetivoRepository,
+                        repositorio -> repositorio.countByStatus(ObjetivoStatus.RASCUNHO))
+                .description("Objetivos em rascunho gravados no banco")
+                .register(registry);
+    }
+}
@@ -0,0 +1,150 @@
+package com.estudos.planner.config;
+
+import com.estudos.planner.model.TipoSessao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MigracaoSessoesTarefa implements ApplicationRunner {
+
+    private static final String TRAVA = "planner.migracao.sessoes-tarefa";
+    private static final Pattern TITULO_PARTE = Pattern.compile(" - (Fundamentos|Aprofundamento) \\(Parte (\\d+)\\)$");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${planner.migracao.sessoes-tarefa.habilitada:false}")
+    private boolean habilitada;
+
+    @Value("${planner.migracao.sessoes-tarefa.lote:1000}")
+    private int tamanhoLote;
+
+    @Value("${planner.migracao.sessoes-tarefa.remover-colunas:false}")
+    private boolean removerColunas;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!habilitada) {
+            return;
+        }
+
+        // GET_LOCK vale para a conexão: a migração inteira roda nela para que só um nó a execute por vez
+        jdbcTemplate.execute((ConnectionCallback<Void>) conexao -> {
+            JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(conexao, true));
+            boolean mysql = conexao.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+
+            if (mysql && !Integer.valueOf(1).equals(jdbc.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, TRAVA))) {
+                log.info("Migração de sessões já em execução em outro nó");
+                return null;
+            }
+            try {
+                migrar(jdbc);
+            } finally {
+                if (mysql) {
+                    jdbc.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, TRAVA);
+                }
+            }
+            return null;
+        });
+    }
+
+    private void migrar(JdbcTemplate jdbc) {
+        if (!colunaExiste(jdbc, "titulo")) {
+            return;
+        }
+
+        log.info("Migrando título/descrição das tarefas para tipo de sessão e parte");
+
+        long ultimoId = 0L;
+        int migradas = 0;
+        int semPadrao = 0;
+
+        while (true) {
+            List<Map<String, Object>> linhas = jdbc.queryForList(
+                    "SELECT id, titulo, descricao FROM tarefas WHERE tipo_sessao IS NULL AND id > ? ORDER BY id LIMIT ?",
+                    ultimoId, tamanhoLote);
+            if (linhas.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> atualizacoes = new ArrayList<>(linhas.size());
+            for (Map<String, Object> linha : linhas) {
+                String titulo = (String) linha.get("titulo");
+                String descricao = (String) linha.get("descricao");
+
+                TipoSessao tipo = TipoSessao.REVISAO;
+                Integer parte = null;
+
+                Matcher matcher = titulo != null ? TITULO_PARTE.matcher(titulo) : null;
+                if (matcher != null && matcher.find()) {
+                    tipo = matcher.group(1).equals("Fundamentos") ? TipoSessao.FUNDAMENTOS : TipoSessao.APROFUNDAMENTO;
+                    parte = Integer.valueOf(matcher.group(2));
+                } else if (titulo == null || !titulo.endsWith(" - " + TipoSessao.REVISAO.getRotulo())) {
+                    tipo = tipoPorDescricao(descricao);
+                    semPadrao++;
+                }
+
+                atualizacoes.add(new Object[]{tipo.name(), parte, ((Number) linha.get("id")).longValue()});
+            }
+
+            jdbc.batchUpdate("UPDATE tarefas SET tipo_sessao = ?, parte = ? WHERE id = ?", atualizacoes);
+            migradas += atualizacoes.size();
+            ultimoId = ((Number) linhas.get(linhas.size() - 1).get("id")).longValue();
+        }
+
+        if (semPadrao > 0) {
+            log.warn("{} tarefas sem título no padrão gerado; tipo de sessão inferido pela descrição", semPadrao);
+        }
+
+        if (removerColunas) {
+            jdbc.execute("ALTER TABLE tarefas DROP COLUMN titulo");
+            if (colunaExiste(jdbc, "descricao")) {
+                jdbc.execute("ALTER TABLE tarefas DROP COLUMN descricao");
+            }
+        }
+
+        log.info("Migração de sessões concluída: {} tarefas atualizadas{}", migradas,
+                removerColunas ? ", colunas titulo/descricao removidas" : "");
+    }
+
+    private TipoSessao tipoPorDescricao(String descricao) {
+        for (TipoSessao tipo : TipoSessao.values()) {
+            if (tipo.getDescricao().equals(descricao)) {
+                return tipo;
+            }
+        }
+        return TipoSessao.REVISAO;
+    }
+
+    private boolean colunaExiste(JdbcTemplate jdbc, String coluna) {
+        return Boolean.TRUE.equals(jdbc.execute((ConnectionCallback<Boolean>) conexao -> {
+            DatabaseMetaData metadados = conexao.getMetaData();
+            for (String tabela : List.of("tarefas", "TAREFAS")) {
+                try (ResultSet colunas = metadados.getColumns(conexao.getCatalog(), null, tabela, null)) {
+                    while (colunas.next()) {
+                        if (coluna.equalsIgnoreCase(colunas.getString("COLUMN_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
@@ -0,0 +1,39 @@
+package com.estudos.planner.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@Slf4j
+public class PoolConexoesConfig {
+
+    @Bean
+    public static BeanPostProcessor poolConexoesPorNucleo(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    dimensionar(hikari, beanName, environment);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static void dimensionar(HikariDataSource hikari, String nome, Environment environment) {
+        int conexoesPorNucleo = environment.getProperty("planner.datasource.conexoes-por-nucleo", Integer.class, 0);
+
+        boolean tamanhoExplicito = environment.containsProperty("spring.datasource.hikari.maximum-pool-size");
+
+        if (conexoesPorNucleo > 0 && !tamanhoExplicito) {
+            int nucleos = Runtime.getRuntime().availableProcessors();
+            int tamanho = nucleos * conexoesPorNucleo + 1;
+            hikari.setMaximumPoolSize(tamanho);
+            log.info("Pool de conexões {} dimensionado para {} conexões ({} núcleos)", nome, tamanho, nucleos);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.estudos.planner.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RastreamentoConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "planner.rastreamento.memoria.habilitado", havingValue = "true")
+    public RastreamentoMemoriaExporter rastreamentoMemoriaExporter(
+            @Value("${planner.rastreamento.memoria.traces:200}") int maxTraces) {
+        return new RastreamentoMemoriaExporter(maxTraces);
+    }
+}
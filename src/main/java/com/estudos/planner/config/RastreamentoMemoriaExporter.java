@@ -0,0 +1,118 @@
+package com.estudos.planner.config;
+
+import com.estudos.planner.dto.SpanDTO;
+import com.estudos.planner.dto.TraceResumoDTO;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class RastreamentoMemoriaExporter implements SpanExporter {
+
+    private final int maxTraces;
+    private final LinkedHashMap<String, List<SpanData>> traces = new LinkedHashMap<>();
+
+    public RastreamentoMemoriaExporter(int maxTraces) {
+        this.maxTraces = maxTraces;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        for (SpanData span : spans) {
+            traces.computeIfAbsent(span.getTraceId(), id -> new ArrayList<>()).add(span);
+        }
+
+        Iterator<String> maisAntigos = traces.keySet().iterator();
+        while (traces.size() > maxTraces && maisAntigos.hasNext()) {
+            maisAntigos.next();
+            maisAntigos.remove();
+        }
+
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        traces.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public synchronized List<TraceResumoDTO> listar() {
+        List<TraceResumoDTO> resumos = new ArrayList<>();
+
+        traces.forEach((traceId, spans) -> {
+            SpanData raiz = raiz(spans);
+            long inicio = spans.stream().mapToLong(SpanData::getStartEpochNanos).min().orElse(0);
+            long fim = spans.stream().mapToLong(SpanData::getEndEpochNanos).max().orElse(0);
+
+            resumos.add(new TraceResumoDTO(
+                    traceId,
+                    raiz.getName(),
+                    Instant.ofEpochSecond(0, inicio),
+                    (fim - inicio) / 1_000_000.0,
+                    spans.size(),
+                    spans.stream().anyMatch(s -> s.getStatus().getStatusCode() == StatusCode.ERROR)));
+        });
+
+        Collections.reverse(resumos);
+        return resumos;
+    }
+
+    public synchronized List<SpanDTO> buscar(String traceId) {
+        List<SpanData> spans = traces.getOrDefault(traceId, List.of());
+        if (spans.isEmpty()) {
+            return List.of();
+        }
+
+        long inicioTrace = spans.stream().mapToLong(SpanData::getStartEpochNanos).min().orElse(0);
+        Set<String> ids = spans.stream().map(SpanData::getSpanId).collect(Collectors.toSet());
+        Map<String, List<SpanData>> filhos = spans.stream()
+                .filter(s -> ids.contains(s.getParentSpanId()))
+                .collect(Collectors.groupingBy(SpanData::getParentSpanId));
+
+        List<SpanDTO> resultado = new ArrayList<>();
+        spans.stream()
+                .filter(s -> !ids.contains(s.getParentSpanId()))
+                .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .forEach(s -> adicionar(s, 0, inicioTrace, filhos, resultado));
+
+        return resultado;
+    }
+
+    private void adicionar(SpanData span, int profundidade, long inicioTrace,
+                           Map<String, List<SpanData>> filhos, List<SpanDTO> resultado) {
+        Map<String, String> atributos = new LinkedHashMap<>();
+        span.getAttributes().forEach((chave, valor) -> atributos.put(chave.getKey(), String.valueOf(valor)));
+
+        resultado.add(new SpanDTO(
+                span.getSpanId(),
+                span.getParentSpanId(),
+                span.getName(),
+                profundidade,
+                (span.getStartEpochNanos() - inicioTrace) / 1_000_000.0,
+                (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000_000.0,
+                span.getStatus().getStatusCode() == StatusCode.ERROR,
+                atributos));
+
+        filhos.getOrDefault(span.getSpanId(), List.of()).stream()
+                .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .forEach(filho -> adicionar(filho, profundidade + 1, inicioTrace, filhos, resultado));
+    }
+
+    private SpanData raiz(List<SpanData> spans) {
+        Set<String> ids = spans.stream().map(SpanData::getSpanId).collect(Collectors.toSet());
+        return spans.stream()
+                .filter(s -> !ids.contains(s.getParentSpanId()))
+                .min(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .orElse(spans.get(0));
+    }
+}
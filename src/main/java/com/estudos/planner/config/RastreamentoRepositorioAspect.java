@@ -0,0 +1,42 @@
+package com.estudos.planner.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RastreamentoRepositorioAspect {
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<Class<?>, String> nomesRepositorios = new ConcurrentHashMap<>();
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object observar(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repositorio = nomesRepositorios.computeIfAbsent(joinPoint.getThis().getClass(), this::nomeRepositorio);
+        String metodo = joinPoint.getSignature().getName();
+
+        return Observation.createNotStarted("planner.repositorio", observationRegistry)
+                .contextualName(repositorio + "." + metodo)
+                .lowCardinalityKeyValue("repositorio", repositorio)
+                .lowCardinalityKeyValue("metodo", metodo)
+                .observeChecked(() -> joinPoint.proceed());
+    }
+
+    private String nomeRepositorio(Class<?> proxy) {
+        return Arrays.stream(proxy.getInterfaces())
+                .filter(i -> i.getPackageName().startsWith("com.estudos.planner"))
+                .map(Class::getSimpleName)
+                .findFirst()
+                .orElse(proxy.getSimpleName());
+    }
+}
@@ -0,0 +1,62 @@
+package com.estudos.planner.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class RegistroSql {
+
+    private final Map<String, Integer> execucoesPorInstrucao = new LinkedHashMap<>();
+    private final RegistroSql externo;
+    private int total;
+
+    RegistroSql(RegistroSql externo) {
+        this.externo = externo;
+    }
+
+    // Um registro aberto dentro de outro (ex.: medir em volta de uma requisição que passa pelo
+    // ContadorSqlFiltro) também conta as instruções no registro de fora.
+    void registrar(String sql) {
+        total++;
+        execucoesPorInstrucao.merge(sql, 1, Integer::sum);
+        if (externo != null) {
+            externo.registrar(sql);
+        }
+    }
+
+    RegistroSql getExterno() {
+        return externo;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public Map<String, Integer> repetidas(int limite) {
+        return execucoesPorInstrucao.entrySet().stream()
+                .filter(e -> e.getValue() >= limite)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    public RegistroSql verificarOrcamento(int maximo) {
+        if (total > maximo) {
+            throw new OrcamentoSqlExcedidoException(
+                    "Orçamento de " + maximo + " instruções SQL excedido: " + total + " executadas " + execucoesPorInstrucao);
+        }
+        return this;
+    }
+
+    public RegistroSql verificarSemRepeticao(int limite) {
+        Map<String, Integer> repetidas = repetidas(limite);
+        if (!repetidas.isEmpty()) {
+            throw new OrcamentoSqlExcedidoException("Possível N+1, instruções repetidas: " + repetidas);
+        }
+        return this;
+    }
+
+    public static class OrcamentoSqlExcedidoException extends RuntimeException {
+        public OrcamentoSqlExcedidoException(String mensagem) {
+            super(mensagem);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.estudos.planner.config;
+
+import jakarta.servlet.http.HttpSession;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARIO = "primario";
+
+    private static final String ULTIMA_ESCRITA = RoteamentoDataSource.class.getName() + ".ULTIMA_ESCRITA";
+    private static final Object ESCRITA_REGISTRADA = new Object();
+
+    private final List<String> replicas;
+    private final long aderenciaMillis;
+    private final AtomicInteger proximaReplica = new AtomicInteger();
+
+    public RoteamentoDataSource(List<String> replicas, long aderenciaMillis) {
+        this.replicas = replicas;
+        this.aderenciaMillis = aderenciaMillis;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARIO;
+        }
+
+        RequestAttributes requisicao = RequestContextHolder.getRequestAttributes();
+
+        EntityManagerHolder entityManager = entityManagerDaTransacao();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (entityManager != null) {
+                registrarEscrita(requisicao);
+            }
+            return PRIMARIO;
+        }
+
+        if (requisicao == null || escreveuRecentemente(requisicao)) {
+            return PRIMARIO;
+        }
+
+        if (entityManager != null) {
+            somenteLerDoCache(entityManager.getEntityManager().unwrap(Session.class));
+        }
+        return replicas.get(Math.floorMod(proximaReplica.getAndIncrement(), replicas.size()));
+    }
+
+    private static EntityManagerHolder entityManagerDaTransacao() {
+        return TransactionSynchronizationManager.getResourceMap().values().stream()
+                .filter(EntityManagerHolder.class::isInstance)
+                .map(EntityManagerHolder.class::cast)
+                .filter(EntityManagerHolder::isSynchronizedWithTransaction)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void somenteLerDoCache(Session sessao) {
+        CacheMode anterior = sessao.getCacheMode();
+        if (anterior == CacheMode.GET || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        sessao.setCacheMode(CacheMode.GET);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (sessao.isOpen()) {
+                    sessao.setCacheMode(anterior);
+                }
+            }
+        });
+    }
+
+    private boolean escreveuRecentemente(RequestAttributes requisicao) {
+        Object ultimaEscrita = requisicao.getAttribute(ULTIMA_ESCRITA, RequestAttributes.SCOPE_SESSION);
+        return ultimaEscrita instanceof Long instante && System.currentTimeMillis() - instante < aderenciaMillis;
+    }
+
+    private void registrarEscrita(RequestAttributes requisicao) {
+        if (!(requisicao instanceof ServletRequestAttributes servlet)
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(ESCRITA_REGISTRADA)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(ESCRITA_REGISTRADA, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    HttpSession sessao = servlet.getRequest().getSession(false);
+                    if (status == STATUS_COMMITTED && sessao != null) {
+                        sessao.setAttribute(ULTIMA_ESCRITA, System.currentTimeMillis());
+                    }
+                } finally {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ESCRITA_REGISTRADA);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.estudos.planner.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty("planner.datasource.replicas.urls")
+@Slf4j
+public class RoteamentoDataSourceConfig {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties propriedades, Environment environment,
+                                 ObjectProvider<MeterRegistry> registry,
+                                 @Value("${planner.datasource.replicas.urls}") List<String> urlsReplicas,
+                                 @Value("${planner.datasource.replicas.username:${spring.datasource.username:}}") String usuarioReplica,
+                                 @Value("${planner.datasource.replicas.password:${spring.datasource.password:}}") String senhaReplica,
+                                 @Value("${planner.datasource.replicas.aderencia-segundos:5}") long aderenciaSegundos) {
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(RoteamentoDataSource.PRIMARIO, criarPool(RoteamentoDataSource.PRIMARIO,
+                propriedades.determineUrl(), propriedades.determineUsername(), propriedades.determinePassword(),
+                propriedades.determineDriverClassName(), false, environment, registry));
+
+        List<String> replicas = new ArrayList<>();
+        for (String url : urlsReplicas) {
+            String nome = "replica-" + (replicas.size() + 1);
+            destinos.put(nome, criarPool(nome, url.trim(), usuarioReplica, senhaReplica,
+                    propriedades.determineDriverClassName(), true, environment, registry));
+            replicas.add(nome);
+        }
+
+        RoteamentoDataSource roteamento = new RoteamentoDataSource(replicas, aderenciaSegundos * 1000);
+        roteamento.setTargetDataSources(destinos);
+        roteamento.setDefaultTargetDataSource(destinos.get(RoteamentoDataSource.PRIMARIO));
+        roteamento.afterPropertiesSet();
+
+        log.info("Leituras somente-leitura roteadas para {} réplica(s), aderência ao primário de {}s após escrita",
+                replicas.size(), aderenciaSegundos);
+
+        return new LazyConnectionDataSourceProxy(roteamento);
+    }
+
+    @PreDestroy
+    public void fecharPools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource criarPool(String nome, String url, String usuario, String senha, String driver,
+                                       boolean somenteLeitura, Environment environment,
+                                       ObjectProvider<MeterRegistry> registry) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(nome);
+        pool.setJdbcUrl(url);
+        pool.setUsername(usuario);
+        pool.setPassword(senha);
+        pool.setDriverClassName(driver);
+        pool.setReadOnly(somenteLeitura);
+        registry.ifAvailable(r -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(r)));
+        PoolConexoesConfig.dimensionar(pool, nome, environment);
+
+        pools.add(pool);
+        return pool;
+    }
+}
@@ -1,59 +1,137 @@
 package com.estudos.planner.config;
 
 import com.estudos.planner.service.CustomUserDetailsService;
+import com.estudos.planner.service.MetricasService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.ExceptionMappingAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
+@Slf4j
 public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
+    private final MetricasService metricasService;
+    private final Environment environment;
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricasFilterChain(HttpSecurity http,
+                                                   @Value("${planner.metricas.usuario:prometheus}") String usuario,
+                                                   @Value("${planner.metricas.senha:}") String senha) throws Exception {
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(sessao -> sessao.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(basic -> basic.authenticationEntryPoint((request, response, excecao) -> {
+                    response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"planner\"");
+                    response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                }));
+
+        if (senha.isBlank()) {
+            log.warn("planner.metricas.senha não definida: /actuator/prometheus recusará todas as coletas");
+            return http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll()).build();
+        }
+
+        DaoAuthenticationProvider coletor = new DaoAuthenticationProvider();
+        coletor.setUserDetailsService(new InMemoryUserDetailsManager(
+                User.withUsername(usuario).password(senha).roles("METRICAS").build()));
+        coletor.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+
+        return http
+                .authenticationManager(new ProviderManager(coletor))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("METRICAS"))
+                .build();
+    }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(2)
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${planner.login.limite.tentativas:10}") int tentativas,
+                                           @Value("${planner.login.limite.janela:1m}") Duration janela,
+                                           @Value("${planner.login.limite.maximo-enderecos:10000}") int maximoEnderecos)
+            throws Exception {
+        ExceptionMappingAuthenticationFailureHandler falhaLogin = new ExceptionMappingAuthenticationFailureHandler();
+        falhaLogin.setDefaultFailureUrl("/login?error=true");
+        falhaLogin.setExceptionMappings(Map.of(SobrecargaSenhaException.class.getName(), "/login?sobrecarga=true"));
+
         return http
                 .csrf(csrf -> csrf.disable())
-                .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/", "/cadastro", "/css/**", "/js/**", "/images/**").permitAll()
-                        .anyRequest().authenticated()
-                )
+                .addFilterBefore(new LimiteLoginFiltro(metricasService, tentativas, janela, maximoEnderecos),
+                        UsernamePasswordAuthenticationFilter.class)
+                .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+                .authorizeHttpRequests(auth -> {
+                    auth
+                            .requestMatchers("/", "/cadastro", "/css/**", "/js/**", "/images/**").permitAll()
+                            .requestMatchers("/actuator/health").permitAll();
+                    // O Gemini simulado é chamado pela própria aplicação, sem sessão; fora do perfil a rota nem existe
+                    if (environment.acceptsProfiles(Profiles.of("gemini-stub"))) {
+                        auth.requestMatchers("/stub/**").permitAll();
+                    }
+                    auth.anyRequest().authenticated();
+                })
                 .formLogin(form -> form
                         .loginPage("/login")
                         .defaultSuccessUrl("/dashboard", true)
-                        .failureUrl("/login?error=true")
+                        .failureHandler(falhaLogin)
                         .permitAll()
                 )
                 .logout(logout -> logout
                         .logoutUrl("/logout")
                         .logoutSuccessUrl("/")
                         .invalidateHttpSession(true)
-                        .deleteCookies("JSESSIONID")
+                        .deleteCookies("SESSION")
                         .permitAll()
                 )
                 .build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ThreadPoolTaskExecutor hashSenhaExecutor,
+                                           @Value("${planner.senha.bcrypt.forca:10}") int forca,
+                                           @Value("${planner.senha.espera-maxima:5s}") Duration esperaMaxima) {
+        log.info("BCrypt com força {} em {} thread(s), fila de {} e espera máxima de {}ms",
+                forca, hashSenhaExecutor.getMaxPoolSize(), hashSenhaExecutor.getQueueCapacity(),
+                esperaMaxima.toMillis());
+        return new CodificadorSenhaLimitado(new BCryptPasswordEncoder(forca), hashSenhaExecutor, metricasService,
+                esperaMaxima);
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsService);
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
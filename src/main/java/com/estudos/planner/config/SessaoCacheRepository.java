@@ -0,0 +1,206 @@
+package com.estudos.planner.config;
+
+import com.estudos.planner.service.MetricasService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public class SessaoCacheRepository implements SessionRepository<SessaoCacheRepository.SessaoLocal>, DisposableBean {
+
+    private final SessionRepository<Session> jdbc;
+    private final JdbcIndexedSessionRepository repositorioJdbc;
+    private final JdbcTemplate jdbcTemplate;
+    private final MetricasService metricasService;
+    private final String consultaUltimoAcesso;
+    private final long toqueMinimoMillis;
+    private final Map<String, SessaoLocal> cache;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SessaoCacheRepository(JdbcIndexedSessionRepository repositorioJdbc, JdbcTemplate jdbcTemplate,
+                                 MetricasService metricasService, String tabela, Duration toqueMinimo,
+                                 int maximoEntradas) {
+        this.jdbc = (SessionRepository) repositorioJdbc;
+        this.repositorioJdbc = repositorioJdbc;
+        this.jdbcTemplate = jdbcTemplate;
+        this.metricasService = metricasService;
+        this.consultaUltimoAcesso = "SELECT LAST_ACCESS_TIME FROM " + tabela + " WHERE SESSION_ID = ?";
+        this.toqueMinimoMillis = toqueMinimo.toMillis();
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SessaoLocal> maisAntiga) {
+                return size() > maximoEntradas;
+            }
+        });
+    }
+
+    @Override
+    public SessaoLocal createSession() {
+        return new SessaoLocal(jdbc.createSession());
+    }
+
+    @Override
+    public void save(SessaoLocal sessao) {
+        String idAnterior;
+        String id;
+        synchronized (sessao) {
+            idAnterior = sessao.idPersistido;
+            boolean alteradaEmOutroNo = sessao.alterada && idAnterior != null
+                    && !Objects.equals(ultimoAcesso(idAnterior), sessao.ultimoAcessoPersistido);
+
+            jdbc.save(sessao.sessao);
+            id = sessao.sessao.getId();
+            sessao.idPersistido = id;
+            sessao.ultimoAcessoPersistido = alteradaEmOutroNo ? -1 : sessao.sessao.getLastAccessedTime().toEpochMilli();
+            sessao.alterada = false;
+        }
+
+        if (idAnterior != null && !idAnterior.equals(id)) {
+            cache.remove(idAnterior);
+        }
+        cache.put(id, sessao);
+    }
+
+    @Override
+    public SessaoLocal findById(String id) {
+        SessaoLocal cacheada = cache.get(id);
+        if (cacheada != null) {
+            Long ultimoAcesso = ultimoAcesso(id);
+            if (ultimoAcesso != null && ultimoAcesso == cacheada.ultimoAcessoPersistido) {
+                if (cacheada.isExpired()) {
+                    deleteById(id);
+                    return null;
+                }
+                metricasService.registrarCacheSessao(true);
+                return cacheada;
+            }
+            cache.remove(id);
+        }
+
+        metricasService.registrarCacheSessao(false);
+        Session sessao = jdbc.findById(id);
+        if (sessao == null) {
+            return null;
+        }
+
+        SessaoLocal local = new SessaoLocal(sessao);
+        local.idPersistido = id;
+        local.ultimoAcessoPersistido = sessao.getLastAccessedTime().toEpochMilli();
+        cache.put(id, local);
+        return local;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        cache.remove(id);
+        jdbc.deleteById(id);
+    }
+
+    private Long ultimoAcesso(String id) {
+        return DataAccessUtils.singleResult(jdbcTemplate.queryForList(consultaUltimoAcesso, Long.class, id));
+    }
+
+    @Override
+    public void destroy() {
+        cache.clear();
+        repositorioJdbc.destroy();
+    }
+
+    public final class SessaoLocal implements Session {
+
+        private final Session sessao;
+        private String idPersistido;
+        private long ultimoAcessoPersistido;
+        private boolean alterada;
+
+        private SessaoLocal(Session sessao) {
+            this.sessao = sessao;
+        }
+
+        @Override
+        public synchronized String getId() {
+            return sessao.getId();
+        }
+
+        @Override
+        public synchronized String changeSessionId() {
+            marcarAlteracao();
+            return sessao.changeSessionId();
+        }
+
+        @Override
+        public synchronized <T> T getAttribute(String nome) {
+            return sessao.getAttribute(nome);
+        }
+
+        @Override
+        public synchronized Set<String> getAttributeNames() {
+            return sessao.getAttributeNames();
+        }
+
+        @Override
+        public synchronized void setAttribute(String nome, Object valor) {
+            marcarAlteracao();
+            sessao.setAttribute(nome, valor);
+        }
+
+        @Override
+        public synchronized void removeAttribute(String nome) {
+            if (sessao.getAttribute(nome) != null) {
+                marcarAlteracao();
+            }
+            sessao.removeAttribute(nome);
+        }
+
+        @Override
+        public synchronized Instant getCreationTime() {
+            return sessao.getCreationTime();
+        }
+
+        @Override
+        public synchronized void setLastAccessedTime(Instant instante) {
+            if (instante.toEpochMilli() - sessao.getLastAccessedTime().toEpochMilli() >= toqueMinimoMillis) {
+                sessao.setLastAccessedTime(instante);
+                alterada = true;
+            }
+        }
+
+        @Override
+        public synchronized Instant getLastAccessedTime() {
+            return sessao.getLastAccessedTime();
+        }
+
+        @Override
+        public synchronized void setMaxInactiveInterval(Duration intervalo) {
+            marcarAlteracao();
+            sessao.setMaxInactiveInterval(intervalo);
+        }
+
+        @Override
+        public synchronized Duration getMaxInactiveInterval() {
+            return sessao.getMaxInactiveInterval();
+        }
+
+        @Override
+        public synchronized boolean isExpired() {
+            return sessao.isExpired();
+        }
+
+        private void marcarAlteracao() {
+            Instant agora = Instant.now();
+            Instant ultimo = sessao.getLastAccessedTime();
+            sessao.setLastAccessedTime(agora.isAfter(ultimo) ? agora : ultimo.plusMillis(1));
+            alterada = true;
+        }
+    }
+}
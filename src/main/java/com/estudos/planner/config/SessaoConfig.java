@@ -0,0 +1,62 @@
+package com.estudos.planner.config;
+
+import com.estudos.planner.service.MetricasService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Configuration
+@Slf4j
+public class SessaoConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "planner.sessao.cache.habilitado", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor cacheLocalSessoes(Environment environment,
+                                                      ObjectProvider<JdbcTemplate> jdbcTemplate,
+                                                      ObjectProvider<MetricasService> metricasService) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof JdbcIndexedSessionRepository jdbc) {
+                    Duration toqueMinimo = environment.getProperty("planner.sessao.toque-minimo", Duration.class,
+                            Duration.ofSeconds(60));
+                    int maximoEntradas = environment.getProperty("planner.sessao.cache.maximo", Integer.class, 10000);
+
+                    log.info("Sessões JDBC com cache local de até {} entradas (toque mínimo {}s)",
+                            maximoEntradas, toqueMinimo.toSeconds());
+                    return new SessaoCacheRepository(jdbc, jdbcTemplate.getObject(), metricasService.getObject(),
+                            environment.getProperty("spring.session.jdbc.table-name",
+                                    JdbcIndexedSessionRepository.DEFAULT_TABLE_NAME),
+                            toqueMinimo, maximoEntradas);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "planner.sessao.armazenamento", havingValue = "memoria")
+    @EnableSpringHttpSession
+    static class SessaoMemoriaConfig {
+
+        @Bean
+        public MapSessionRepository sessionRepository(Environment environment) {
+            MapSessionRepository repositorio = new MapSessionRepository(new ConcurrentHashMap<>());
+            repositorio.setDefaultMaxInactiveInterval(
+                    environment.getProperty("spring.session.timeout", Duration.class, Duration.ofMinutes(30)));
+            log.info("Sessões mantidas em memória: não compartilhadas entre instâncias");
+            return repositorio;
+        }
+    }
+}
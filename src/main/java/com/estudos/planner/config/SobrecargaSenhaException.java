@@ -0,0 +1,10 @@
+package com.estudos.planner.config;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+public class SobrecargaSenhaException extends AuthenticationServiceException {
+
+    public SobrecargaSenhaException(String mensagem) {
+        super(mensagem);
+    }
+}
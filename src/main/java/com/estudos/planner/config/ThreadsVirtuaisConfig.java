@@ -0,0 +1,31 @@
+package com.estudos.planner.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+
+@Configuration
+@Profile("virtual")
+@Slf4j
+public class ThreadsVirtuaisConfig {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verificarSuporte() {
+        int versao = Runtime.version().feature();
+
+        if (versao < 21) {
+            log.warn("Perfil 'virtual' não suportado em Java {}: threads virtuais exigem Java 21+, " +
+                    "requisições continuam no pool de threads de plataforma do Tomcat", versao);
+            return;
+        }
+
+        if (System.getProperty("jdk.tracePinnedThreads") == null) {
+            log.info("Threads virtuais ativas. Use -Djdk.tracePinnedThreads=short para diagnosticar pinning");
+        } else {
+            log.info("Threads virtuais ativas com diagnóstico de pinning ({})",
+                    System.getProperty("jdk.tracePinnedThreads"));
+        }
+    }
+}
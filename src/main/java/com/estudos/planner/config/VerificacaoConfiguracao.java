@@ -0,0 +1,84 @@
+package com.estudos.planner.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VerificacaoConfiguracao {
+
+    private static final List<String> LOGGERS_VERIFICADOS = List.of(
+            LoggingSystem.ROOT_LOGGER_NAME, "com.estudos.planner", "org.springframework.security", "org.hibernate.SQL");
+
+    private final Environment environment;
+    private final LoggingSystem loggingSystem;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verificar() {
+        List<String> ajustesDepuracao = new ArrayList<>();
+
+        if (ativo("spring.jpa.show-sql")) {
+            ajustesDepuracao.add("spring.jpa.show-sql=true imprime todo SQL no stdout");
+        }
+        if (ativo("spring.jpa.properties.hibernate.format_sql")) {
+            ajustesDepuracao.add("hibernate.format_sql=true formata cada instrução registrada");
+        }
+        if (ativo("spring.jpa.properties.hibernate.generate_statistics")) {
+            ajustesDepuracao.add("hibernate.generate_statistics=true coleta estatísticas por sessão");
+        }
+        if (!environment.getProperty("spring.thymeleaf.cache", Boolean.class, true)) {
+            ajustesDepuracao.add("spring.thymeleaf.cache=false recompila templates a cada requisição");
+        }
+
+        String ddlAuto = environment.getProperty("spring.jpa.hibernate.ddl-auto", "none");
+        if (Set.of("update", "create", "create-drop").contains(ddlAuto)) {
+            ajustesDepuracao.add("spring.jpa.hibernate.ddl-auto=" + ddlAuto + " altera o schema na inicialização");
+        }
+
+        for (String logger : LOGGERS_VERIFICADOS) {
+            LoggerConfiguration configuracao = loggingSystem.getLoggerConfiguration(logger);
+            if (configuracao != null && configuracao.getEffectiveLevel() != null
+                    && configuracao.getEffectiveLevel().ordinal() <= LogLevel.DEBUG.ordinal()) {
+                ajustesDepuracao.add("logger " + logger + " em " + configuracao.getEffectiveLevel());
+            }
+        }
+
+        if (environment.getProperty("management.tracing.sampling.probability", Double.class, 0.1) >= 1.0) {
+            ajustesDepuracao.add("management.tracing.sampling.probability=1.0 rastreia todas as requisições");
+        }
+        if (ativo("planner.sql.cabecalho")) {
+            ajustesDepuracao.add("planner.sql.cabecalho=true mantém cada resposta em buffer");
+        }
+        if (ativo("planner.rastreamento.memoria.habilitado")) {
+            ajustesDepuracao.add("planner.rastreamento.memoria.habilitado=true guarda traces em memória");
+        }
+
+        if (ajustesDepuracao.isEmpty()) {
+            log.info("Verificação de configuração: nenhum ajuste de depuração ativo");
+            return;
+        }
+
+        if (environment.acceptsProfiles(Profiles.of("prod"))) {
+            ajustesDepuracao.forEach(ajuste -> log.warn("Ajuste de depuração ativo em produção: {}", ajuste));
+        } else {
+            log.info("Ajustes de depuração ativos (use o perfil 'prod' em produção): {}", ajustesDepuracao);
+        }
+    }
+
+    private boolean ativo(String propriedade) {
+        return environment.getProperty(propriedade, Boolean.class, false);
+    }
+}
@@ -0,0 +1,21 @@
+package com.estudos.planner.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class WebConfig {
+
+    @Bean
+    public FilterRegistrationBean<ContadorSqlFiltro> contadorSqlFiltro(
+            @Value("${planner.sql.cabecalho:false}") boolean exporCabecalho,
+            @Value("${planner.sql.n-mais-um.limite:5}") int limiteRepeticoes) {
+        FilterRegistrationBean<ContadorSqlFiltro> registro =
+                new FilterRegistrationBean<>(new ContadorSqlFiltro(exporCabecalho, limiteRepeticoes));
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registro;
+    }
+}
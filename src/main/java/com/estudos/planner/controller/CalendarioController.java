@@ -1,15 +1,12 @@
 package com.estudos.planner.controller;
 
-import com.estudos.planner.model.Objetivo;
+import com.estudos.planner.dto.UsuarioAutenticado;
 import com.estudos.planner.model.Tarefa;
-import com.estudos.planner.model.Usuario;
-import com.estudos.planner.repository.ObjetivoRepository;
-import com.estudos.planner.repository.TarefaRepository;
-import com.estudos.planner.service.UsuarioService;
+import com.estudos.planner.service.TarefaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,39 +23,26 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CalendarioController {
 
-    private final UsuarioService usuarioService;
-    private final ObjetivoRepository objetivoRepository;
-    private final TarefaRepository tarefaRepository;
+    private final TarefaService tarefaService;
 
     @GetMapping
-    public String calendario(Authentication authentication, Model model) {
-        String email = authentication.getName();
-        log.info("Acessando calendário para usuário: {}", email);
-
-        Usuario usuario = usuarioService.buscarPorEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        
-        List<Objetivo> objetivos = objetivoRepository.findByUsuarioOrderByDataCriacaoDesc(usuario);
+    public String calendario(@AuthenticationPrincipal UsuarioAutenticado usuario, Model model) {
+        log.info("Acessando calendário para usuário: {}", usuario.getEmail());
 
         model.addAttribute("usuario", usuario);
-        model.addAttribute("objetivos", objetivos);
 
         return "calendario";
     }
 
     @GetMapping("/tarefas")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> listarTarefas(Authentication authentication) {
-        String email = authentication.getName();
-        Usuario usuario = usuarioService.buscarPorEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
+    public ResponseEntity<List<Map<String, Object>>> listarTarefas(
+            @AuthenticationPrincipal UsuarioAutenticado usuario) {
         
         LocalDate inicio = LocalDate.now().minusMonths(6);
         LocalDate fim = LocalDate.now().plusMonths(6);
 
-        List<Tarefa> tarefas = tarefaRepository.findByUsuarioIdAndPeriodo(usuario.getId(), inicio, fim);
+        List<Tarefa> tarefas = tarefaService.listarPorPeriodo(usuario.getId(), inicio, fim);
 
         
         List<Map<String, Object>> eventos = tarefas.stream()
@@ -85,7 +69,8 @@ public class CalendarioController {
                 "descricao", tarefa.getDescricao() != null ? tarefa.getDescricao() : "",
                 "duracao", tarefa.getDuracao(),
                 "concluida", tarefa.getConcluida(),
-                "emAtraso", tarefa.isEmAtraso()
+                "emAtraso", tarefa.isEmAtraso(),
+                "arquivada", tarefa.isArquivada()
         ));
 
         
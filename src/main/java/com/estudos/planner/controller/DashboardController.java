@@ -1,54 +1,34 @@
 package com.estudos.planner.controller;
 
-import com.estudos.planner.model.Objetivo;
-import com.estudos.planner.model.Tarefa;
-import com.estudos.planner.model.Usuario;
-import com.estudos.planner.repository.ObjetivoRepository;
-import com.estudos.planner.repository.TarefaRepository;
-import com.estudos.planner.service.UsuarioService;
+import com.estudos.planner.dto.DashboardDTO;
+import com.estudos.planner.dto.UsuarioAutenticado;
+import com.estudos.planner.service.DashboardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
-import java.time.LocalDate;
-import java.util.List;
-
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class DashboardController {
 
-    private final UsuarioService usuarioService;
-    private final ObjetivoRepository objetivoRepository;
-    private final TarefaRepository tarefaRepository;
+    private final DashboardService dashboardService;
 
     @GetMapping("/dashboard")
-    public String dashboard(Authentication authentication, Model model) {
-        String email = authentication.getName();
-        log.info("Acessando dashboard para usuário: {}", email);
-
-        Usuario usuario = usuarioService.buscarPorEmail(email)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        
-        List<Objetivo> objetivos = objetivoRepository.findByUsuarioOrderByDataCriacaoDesc(usuario);
-
-        
-        LocalDate hoje = LocalDate.now();
-        List<Tarefa> tarefasHoje = tarefaRepository.findByDataAgendadaAndObjetivo_UsuarioIdOrderByDataAgendadaAsc(
-                hoje, usuario.getId());
+    public String dashboard(@AuthenticationPrincipal UsuarioAutenticado usuario, Model model) {
+        log.info("Acessando dashboard para usuário: {}", usuario.getEmail());
 
-        
-        List<Tarefa> tarefasAtrasadas = tarefaRepository.findTarefasAtrasadas(usuario.getId(), hoje);
+        DashboardDTO dashboard = dashboardService.montar(usuario.getId());
 
         model.addAttribute("usuario", usuario);
-        model.addAttribute("objetivos", objetivos);
-        model.addAttribute("tarefasHoje", tarefasHoje);
-        model.addAttribute("tarefasAtrasadas", tarefasAtrasadas);
-        model.addAttribute("totalObjetivos", objetivos.size());
+        model.addAttribute("objetivos", dashboard.getObjetivos());
+        model.addAttribute("tarefasHoje", dashboard.getTarefasHoje());
+        model.addAttribute("tarefasAtrasadas", dashboard.getTarefasAtrasadas());
+        model.addAttribute("totalObjetivos", dashboard.getTotalObjetivos());
+        model.addAttribute("proximoCursorObjetivos", dashboard.getProximoCursorObjetivos());
 
         return "dashboard";
     }
@@ -0,0 +1,67 @@
+package com.estudos.planner.controller;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@RestController
+@Profile("gemini-stub")
+@Slf4j
+public class GeminiStubController {
+
+    private static final Pattern TEMA = Pattern.compile("Dado o tema: \"(.*?)\"");
+
+    @Value("${planner.stub.gemini.latencia-ms:800}")
+    private long latenciaMs;
+
+    private final Gson gson = new Gson();
+
+    @PostMapping(value = "/stub/gemini", produces = MediaType.APPLICATION_JSON_VALUE)
+    public String gerarConteudo(@RequestBody String corpo) throws InterruptedException {
+        String prompt = JsonParser.parseString(corpo).getAsJsonObject()
+                .getAsJsonArray("contents").get(0).getAsJsonObject()
+                .getAsJsonArray("parts").get(0).getAsJsonObject()
+                .get("text").getAsString();
+
+        Matcher matcher = TEMA.matcher(prompt);
+        String tema = matcher.find() ? matcher.group(1) : "Tema";
+
+        JsonArray miniTemas = new JsonArray();
+        for (int i = 1; i <= 10; i++) {
+            JsonObject miniTema = new JsonObject();
+            miniTema.addProperty("nome", tema + " - Módulo " + i);
+            miniTema.addProperty("descricao", "Conteúdo " + i + " de " + tema);
+            miniTema.addProperty("horasEstimadas", 2 + (i % 5) * 2);
+            miniTemas.add(miniTema);
+        }
+
+        JsonObject part = new JsonObject();
+        part.addProperty("text", "```json\n" + gson.toJson(miniTemas) + "\n```");
+        JsonArray parts = new JsonArray();
+        parts.add(part);
+        JsonObject content = new JsonObject();
+        content.add("parts", parts);
+        JsonObject candidate = new JsonObject();
+        candidate.add("content", content);
+        JsonArray candidates = new JsonArray();
+        candidates.add(candidate);
+        JsonObject resposta = new JsonObject();
+        resposta.add("candidates", candidates);
+
+        Thread.sleep(latenciaMs);
+
+        log.debug("Stub Gemini respondeu para o tema {}", tema);
+        return gson.toJson(resposta);
+    }
+}
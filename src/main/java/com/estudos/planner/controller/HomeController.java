@@ -1,5 +1,6 @@
 package com.estudos.planner.controller;
 
+import com.estudos.planner.config.SobrecargaSenhaException;
 import com.estudos.planner.service.UsuarioService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -71,6 +72,10 @@ public class HomeController {
 
             return "redirect:/login";
 
+        } catch (SobrecargaSenhaException e) {
+            log.warn("Cadastro recusado por sobrecarga: {}", e.getMessage());
+            model.addAttribute("erro", "Muitos acessos no momento. Tente novamente em alguns segundos.");
+            return "cadastro";
         } catch (IllegalArgumentException e) {
             log.warn("Erro ao cadastrar: {}", e.getMessage());
             model.addAttribute("erro", e.getMessage());
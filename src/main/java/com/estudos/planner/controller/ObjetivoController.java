@@ -1,14 +1,18 @@
 package com.estudos.planner.controller;
 
 import com.estudos.planner.dto.MiniTemaDTO;
-import com.estudos.planner.model.MiniTema;
+import com.estudos.planner.dto.PaginaObjetivosDTO;
+import com.estudos.planner.dto.UsuarioAutenticado;
+import com.estudos.planner.model.GeracaoPlano;
 import com.estudos.planner.model.Objetivo;
-import com.estudos.planner.model.Usuario;
+import com.estudos.planner.model.ObjetivoStatus;
 import com.estudos.planner.service.*;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +20,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,10 +31,11 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ObjetivoController {
 
-    private final UsuarioService usuarioService;
     private final ObjetivoService objetivoService;
-    private final GeminiService geminiService;
+    private final ObjectProvider<GeminiService> geminiService;
     private final CronogramaService cronogramaService;
+    private final GeracaoPlanoService geracaoPlanoService;
+    private final RascunhoObjetivoService rascunhoObjetivoService;
 
     
 
@@ -39,10 +45,11 @@ public class ObjetivoController {
     }
 
     @PostMapping("/novo/etapa1")
+    @Observed(name = "planner.assistente", contextualName = "assistente etapa1")
     public String etapa1Submit(
             @RequestParam String temaPrincipal,
             @RequestParam LocalDate dataLimite,
-            Authentication authentication,
+            @AuthenticationPrincipal UsuarioAutenticado usuarioAutenticado,
             RedirectAttributes redirectAttributes) {
 
             try {
@@ -57,16 +64,11 @@ public class ObjetivoController {
             }
 
             
-            String email = authentication.getName();
-            Usuario usuario = usuarioService.buscarPorEmail(email)
-                    .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+            Long rascunhoId = rascunhoObjetivoService.criar(usuarioAutenticado.getId(), temaPrincipal, dataLimite);
 
-            
-            Objetivo objetivo = objetivoService.criarRascunho(usuario, temaPrincipal, dataLimite);
-
-            log.info("Objetivo {} criado na etapa 1", objetivo.getId());
+            log.info("Objetivo {} criado na etapa 1", rascunhoId);
 
-            return "redirect:/objetivos/novo/etapa2/" + objetivo.getId();
+            return "redirect:/objetivos/novo/etapa2/" + rascunhoId;
 
         } catch (Exception e) {
             log.error("Erro na etapa 1", e);
@@ -79,17 +81,18 @@ public class ObjetivoController {
 
     @GetMapping("/novo/etapa2/{id}")
     public String etapa2Form(@PathVariable Long id, Model model) {
-        Objetivo objetivo = objetivoService.buscarPorId(id);
+        Objetivo objetivo = rascunhoObjetivoService.buscar(id);
         model.addAttribute("objetivo", objetivo);
         return "objetivo/wizard-etapa2";
     }
 
     @PostMapping("/{id}/sugerir-temas")
+    @Observed(name = "planner.assistente", contextualName = "assistente sugerir-temas")
     @ResponseBody
     public ResponseEntity<List<MiniTemaDTO>> sugerirTemas(@PathVariable Long id) {
             try {
-            Objetivo objetivo = objetivoService.buscarPorId(id);
-            List<MiniTemaDTO> sugestoes = geminiService.sugerirMiniTemas(objetivo.getTemaPrincipal());
+            Objetivo objetivo = rascunhoObjetivoService.buscar(id);
+            List<MiniTemaDTO> sugestoes = geminiService.getObject().sugerirMiniTemas(objetivo.getTemaPrincipal());
 
             log.info("Retornando {} sugestões para objetivo {}", sugestoes.size(), id);
 
@@ -101,6 +104,7 @@ public class ObjetivoController {
     }
 
     @PostMapping("/novo/etapa2/{id}")
+    @Observed(name = "planner.assistente", contextualName = "assistente etapa2")
     public String etapa2Submit(
             @PathVariable Long id,
             @RequestBody List<MiniTemaDTO> miniTemas,
@@ -117,7 +121,7 @@ public class ObjetivoController {
                 return "redirect:/objetivos/novo/etapa2/" + id;
             }
 
-            objetivoService.adicionarMiniTemas(id, selecionados);
+            rascunhoObjetivoService.adicionarMiniTemas(id, selecionados);
 
             log.info("Mini-temas adicionados ao objetivo {}", id);
 
@@ -134,7 +138,7 @@ public class ObjetivoController {
 
     @GetMapping("/novo/etapa3/{id}")
     public String etapa3Form(@PathVariable Long id, Model model) {
-        Objetivo objetivo = objetivoService.buscarPorId(id);
+        Objetivo objetivo = rascunhoObjetivoService.buscar(id);
         int totalHoras = objetivoService.calcularHorasTotaisNecessarias(objetivo);
 
         model.addAttribute("objetivo", objetivo);
@@ -145,6 +149,7 @@ public class ObjetivoController {
     }
 
     @PostMapping("/novo/etapa3/{id}")
+    @Observed(name = "planner.assistente", contextualName = "assistente etapa3")
     public String etapa3Submit(
             @PathVariable Long id,
             @RequestParam List<Long> miniTemaIds,
@@ -152,7 +157,7 @@ public class ObjetivoController {
             RedirectAttributes redirectAttributes) {
 
         try {
-            objetivoService.atualizarCargasHorarias(id, miniTemaIds, cargas);
+            rascunhoObjetivoService.atualizarCargasHorarias(id, miniTemaIds, cargas);
 
             log.info("Cargas horárias atualizadas para objetivo {}", id);
 
@@ -169,7 +174,7 @@ public class ObjetivoController {
 
     @GetMapping("/novo/etapa4/{id}")
     public String etapa4Form(@PathVariable Long id, Model model) {
-        Objetivo objetivo = objetivoService.buscarPorId(id);
+        Objetivo objetivo = rascunhoObjetivoService.buscar(id);
         int totalHoras = objetivoService.calcularHorasTotaisNecessarias(objetivo);
 
         model.addAttribute("objetivo", objetivo);
@@ -179,6 +184,7 @@ public class ObjetivoController {
     }
 
     @PostMapping("/{id}/validar-viabilidade")
+    @Observed(name = "planner.assistente", contextualName = "assistente validar-viabilidade")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> validarViabilidade(
             @PathVariable Long id,
@@ -186,9 +192,9 @@ public class ObjetivoController {
             @RequestParam String diasEstudo) {
 
             try {
-            objetivoService.configurarRotina(id, horasPorDia, diasEstudo);
+            rascunhoObjetivoService.configurarRotina(id, horasPorDia, diasEstudo);
 
-            Objetivo objetivo = objetivoService.buscarPorId(id);
+            Objetivo objetivo = rascunhoObjetivoService.buscar(id);
             Map<String, Object> resultado = cronogramaService.verificarViabilidade(objetivo);
 
             return ResponseEntity.ok(resultado);
@@ -200,6 +206,7 @@ public class ObjetivoController {
     }
 
     @PostMapping("/novo/etapa4/{id}")
+    @Observed(name = "planner.assistente", contextualName = "assistente etapa4")
     public String etapa4Submit(
             @PathVariable Long id,
             @RequestParam Integer horasPorDia,
@@ -208,10 +215,10 @@ public class ObjetivoController {
 
         try {
             
-            objetivoService.configurarRotina(id, horasPorDia, diasEstudo);
+            rascunhoObjetivoService.configurarRotina(id, horasPorDia, diasEstudo);
 
             
-            Objetivo objetivo = objetivoService.buscarPorId(id);
+            Objetivo objetivo = rascunhoObjetivoService.buscar(id);
             Map<String, Object> viabilidade = cronogramaService.verificarViabilidade(objetivo);
 
             if (!(Boolean) viabilidade.get("viavel")) {
@@ -221,17 +228,11 @@ public class ObjetivoController {
             }
 
             
-            cronogramaService.distribuirCargaHoraria(objetivo);
+            Long objetivoId = rascunhoObjetivoService.finalizar(id);
 
-            
-            objetivoService.finalizarObjetivo(id);
-
-            log.info("Objetivo {} finalizado com sucesso", id);
-
-            redirectAttributes.addFlashAttribute("mensagemSucesso",
-                    "Objetivo criado com sucesso! Seu cronograma está pronto.");
+            log.info("Geração do cronograma do objetivo {} solicitada", objetivoId);
 
-            return "redirect:/objetivos/" + id;
+            return "redirect:/objetivos/" + objetivoId + "/geracao";
 
         } catch (Exception e) {
             log.error("Erro na etapa 4", e);
@@ -240,8 +241,49 @@ public class ObjetivoController {
         }
     }
 
+    @GetMapping("/{id}/geracao")
+    public String acompanharGeracao(@PathVariable Long id, Model model) {
+        Objetivo objetivo = objetivoService.buscarPorId(id);
+        model.addAttribute("objetivo", objetivo);
+        return "objetivo/gerando";
+    }
+
+    @GetMapping("/{id}/geracao/status")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> statusGeracao(@PathVariable Long id) {
+        try {
+            GeracaoPlano geracao = geracaoPlanoService.buscarPorObjetivo(id);
+
+            Map<String, Object> resultado = new HashMap<>();
+            resultado.put("status", geracao.getStatus().name());
+            resultado.put("tarefasCriadas", geracao.getTarefasCriadas());
+            resultado.put("erro", geracao.getMensagemErro());
+
+            return ResponseEntity.ok(resultado);
+
+        } catch (Exception e) {
+            log.error("Erro ao consultar geração do objetivo {}", id, e);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     
 
+    @GetMapping("/pagina")
+    @ResponseBody
+    public ResponseEntity<PaginaObjetivosDTO> listarPagina(
+            @RequestParam(required = false) ObjetivoStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        try {
+            return ResponseEntity.ok(objetivoService.listarPagina(usuario.getId(), status, cursor, tamanho));
+        } catch (IllegalArgumentException e) {
+            log.warn("Página de objetivos inválida para usuário {}: {}", usuario.getId(), e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public String verDetalhes(@PathVariable Long id, Model model) {
         Objetivo objetivo = objetivoService.buscarPorId(id);
@@ -0,0 +1,59 @@
+package com.estudos.planner.controller;
+
+import com.estudos.planner.config.RastreamentoMemoriaExporter;
+import com.estudos.planner.dto.SpanDTO;
+import com.estudos.planner.dto.TraceResumoDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+
+@Controller
+@RequestMapping("/rastreamento")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "planner.rastreamento.memoria.habilitado", havingValue = "true")
+public class RastreamentoController {
+
+    private final RastreamentoMemoriaExporter exporter;
+
+    @GetMapping
+    public String listar(@RequestParam(required = false) String traceId, Model model) {
+        List<TraceResumoDTO> traces = exporter.listar();
+        model.addAttribute("traces", traces);
+
+        if (traceId != null) {
+            List<SpanDTO> spans = exporter.buscar(traceId);
+            model.addAttribute("traceId", traceId);
+            model.addAttribute("spans", spans);
+            model.addAttribute("duracaoTotal", spans.stream()
+                    .mapToDouble(s -> s.getInicioMs() + s.getDuracaoMs())
+                    .max().orElse(1));
+        }
+
+        return "rastreamento";
+    }
+
+    @GetMapping("/traces")
+    @ResponseBody
+    public ResponseEntity<List<TraceResumoDTO>> traces() {
+        return ResponseEntity.ok(exporter.listar());
+    }
+
+    @GetMapping("/traces/{traceId}")
+    @ResponseBody
+    public ResponseEntity<List<SpanDTO>> spans(@PathVariable String traceId) {
+        List<SpanDTO> spans = exporter.buscar(traceId);
+        if (spans.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(spans);
+    }
+}
@@ -1,13 +1,21 @@
 package com.estudos.planner.controller;
 
+import com.estudos.planner.dto.OperacaoTarefaDTO;
+import com.estudos.planner.dto.ResultadoOperacaoTarefaDTO;
+import com.estudos.planner.dto.UsuarioAutenticado;
 import com.estudos.planner.service.TarefaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Controller
 @RequestMapping("/tarefas")
@@ -17,6 +25,9 @@ public class TarefaController {
 
     private final TarefaService tarefaService;
 
+    @Value("${planner.tarefas.lote-maximo:500}")
+    private int tamanhoMaximoLote;
+
     @PostMapping("/{id}/concluir")
     @ResponseBody
     public ResponseEntity<Void> concluirTarefa(@PathVariable Long id) {
@@ -24,6 +35,9 @@ public class TarefaController {
             tarefaService.concluir(id);
             log.info("Tarefa {} marcada como concluída", id);
             return ResponseEntity.ok().build();
+        } catch (ConcurrencyFailureException e) {
+            log.warn("Conflito ao concluir tarefa {}", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             log.error("Erro ao concluir tarefa {}", id, e);
             return ResponseEntity.badRequest().build();
@@ -37,6 +51,9 @@ public class TarefaController {
             tarefaService.desmarcarConclusao(id);
             log.info("Tarefa {} desmarcada", id);
             return ResponseEntity.ok().build();
+        } catch (ConcurrencyFailureException e) {
+            log.warn("Conflito ao desmarcar tarefa {}", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             log.error("Erro ao desmarcar tarefa {}", id, e);
             return ResponseEntity.badRequest().build();
@@ -53,9 +70,34 @@ public class TarefaController {
             tarefaService.reagendar(id, data);
             log.info("Tarefa {} reagendada para {}", id, data);
             return ResponseEntity.ok().build();
+        } catch (ConcurrencyFailureException e) {
+            log.warn("Conflito ao reagendar tarefa {}", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             log.error("Erro ao reagendar tarefa {}", id, e);
             return ResponseEntity.badRequest().build();
         }
     }
+
+    @PostMapping("/lote")
+    @ResponseBody
+    public ResponseEntity<List<ResultadoOperacaoTarefaDTO>> executarLote(
+            @AuthenticationPrincipal UsuarioAutenticado usuario,
+            @RequestBody List<OperacaoTarefaDTO> operacoes) {
+        if (operacoes.isEmpty() || operacoes.size() > tamanhoMaximoLote) {
+            log.warn("Lote de tarefas com tamanho inválido: {}", operacoes.size());
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            List<ResultadoOperacaoTarefaDTO> resultados = tarefaService.executarLote(usuario.getId(), operacoes);
+            return ResponseEntity.ok(resultados);
+        } catch (ConcurrencyFailureException e) {
+            log.warn("Conflito ao executar lote de tarefas");
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            log.error("Erro ao executar lote de tarefas", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
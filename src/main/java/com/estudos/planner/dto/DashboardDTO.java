@@ -0,0 +1,19 @@
+package com.estudos.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDTO {
+    private List<ObjetivoResumoDTO> objetivos = new ArrayList<>();
+    private List<TarefaResumoDTO> tarefasHoje = new ArrayList<>();
+    private List<TarefaResumoDTO> tarefasAtrasadas = new ArrayList<>();
+    private String proximoCursorObjetivos;
+    private long totalObjetivos;
+}
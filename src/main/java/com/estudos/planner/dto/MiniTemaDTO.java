@@ -4,10 +4,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class MiniTemaDTO {
+public class MiniTemaDTO implements Serializable {
     private String nome;
     private String descricao;
     private Integer horasEstimadas;
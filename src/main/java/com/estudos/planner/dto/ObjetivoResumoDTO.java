@@ -0,0 +1,31 @@
+package com.estudos.planner.dto;
+
+import com.estudos.planner.model.ObjetivoStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ObjetivoResumoDTO {
+    private Long id;
+    private String temaPrincipal;
+    private LocalDate dataLimite;
+    private ObjetivoStatus status;
+    private Integer horasPorDia;
+    private Integer totalTarefas;
+    private Integer tarefasConcluidas;
+    private Long minutosConcluidos;
+    private LocalDateTime dataCriacao;
+
+    public double getProgresso() {
+        if (totalTarefas == null || totalTarefas == 0) {
+            return 0.0;
+        }
+        return (tarefasConcluidas * 100.0) / totalTarefas;
+    }
+}
@@ -0,0 +1,22 @@
+package com.estudos.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OperacaoTarefaDTO {
+    private Long tarefaId;
+    private Tipo operacao;
+    private LocalDate novaData;
+
+    public enum Tipo {
+        CONCLUIR,
+        DESMARCAR,
+        REAGENDAR
+    }
+}
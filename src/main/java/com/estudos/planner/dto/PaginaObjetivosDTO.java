@@ -0,0 +1,16 @@
+package com.estudos.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaObjetivosDTO {
+    private List<ObjetivoResumoDTO> itens = new ArrayList<>();
+    private String proximoCursor;
+}
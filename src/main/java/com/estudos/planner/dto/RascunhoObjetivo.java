@@ -0,0 +1,25 @@
+package com.estudos.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RascunhoObjetivo implements Serializable {
+    private Long id;
+    private Long usuarioId;
+    private String temaPrincipal;
+    private LocalDate dataLimite;
+    private List<MiniTemaDTO> miniTemas = new ArrayList<>();
+    private Integer horasPorDia;
+    private String diasEstudo;
+    private LocalDateTime dataCriacao;
+}
@@ -0,0 +1,22 @@
+package com.estudos.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoOperacaoTarefaDTO {
+    private Long tarefaId;
+    private Boolean sucesso;
+    private String mensagem;
+
+    public static ResultadoOperacaoTarefaDTO ok(Long tarefaId) {
+        return new ResultadoOperacaoTarefaDTO(tarefaId, true, null);
+    }
+
+    public static ResultadoOperacaoTarefaDTO erro(Long tarefaId, String mensagem) {
+        return new ResultadoOperacaoTarefaDTO(tarefaId, false, mensagem);
+    }
+}
@@ -0,0 +1,21 @@
+package com.estudos.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpanDTO {
+    private String spanId;
+    private String parentId;
+    private String nome;
+    private int profundidade;
+    private double inicioMs;
+    private double duracaoMs;
+    private boolean erro;
+    private Map<String, String> atributos;
+}
@@ -0,0 +1,26 @@
+package com.estudos.planner.dto;
+
+import com.estudos.planner.model.TipoSessao;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarefaResumoDTO {
+    private Long id;
+    private Long objetivoId;
+    private String titulo;
+    private LocalDate dataAgendada;
+    private Integer duracao;
+    private Boolean concluida;
+
+    public TarefaResumoDTO(Long id, Long objetivoId, String miniTemaNome, TipoSessao tipoSessao, Integer parte,
+                           LocalDate dataAgendada, Integer duracao, Boolean concluida) {
+        this(id, objetivoId, tipoSessao != null ? tipoSessao.titulo(miniTemaNome, parte) : miniTemaNome,
+                dataAgendada, duracao, concluida);
+    }
+}
@@ -0,0 +1,19 @@
+package com.estudos.planner.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TraceResumoDTO {
+    private String traceId;
+    private String nome;
+    private Instant inicio;
+    private double duracaoMs;
+    private int spans;
+    private boolean erro;
+}
@@ -0,0 +1,66 @@
+package com.estudos.planner.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "geracoes_plano")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeracaoPlano {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "objetivo_id", nullable = false, unique = true)
+    private Long objetivoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private GeracaoPlanoStatus status = GeracaoPlanoStatus.PENDENTE;
+
+    @Column(nullable = false)
+    private Integer tentativas = 0;
+
+    @Column(name = "tarefas_criadas")
+    private Integer tarefasCriadas;
+
+    @Column(name = "mensagem_erro", length = 500)
+    private String mensagemErro;
+
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_atualizacao", nullable = false)
+    private LocalDateTime dataAtualizacao;
+
+    @PrePersist
+    protected void onCreate() {
+        dataCriacao = LocalDateTime.now();
+        dataAtualizacao = dataCriacao;
+        if (status == null) {
+            status = GeracaoPlanoStatus.PENDENTE;
+        }
+        if (tentativas == null) {
+            tentativas = 0;
+        }
+    }
+
+    public void reiniciar() {
+        this.status = GeracaoPlanoStatus.PENDENTE;
+        this.tarefasCriadas = null;
+        this.mensagemErro = null;
+        this.dataAtualizacao = LocalDateTime.now();
+    }
+
+    @Transient
+    public boolean isAtiva() {
+        return status == GeracaoPlanoStatus.PENDENTE || status == GeracaoPlanoStatus.EM_EXECUCAO;
+    }
+}
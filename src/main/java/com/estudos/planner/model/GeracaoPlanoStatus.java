@@ -0,0 +1,8 @@
+package com.estudos.planner.model;
+
+public enum GeracaoPlanoStatus {
+    PENDENTE,
+    EM_EXECUCAO,
+    CONCLUIDO,
+    FALHOU
+}
@@ -8,6 +8,8 @@ import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,16 +17,26 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "objetivos")
+@Table(name = "objetivos", indexes = {
+        @Index(name = "idx_objetivos_status_criacao", columnList = "status, data_criacao"),
+        @Index(name = "idx_objetivos_usuario_criacao", columnList = "usuario_id, data_criacao, id"),
+        @Index(name = "idx_objetivos_usuario_status_criacao", columnList = "usuario_id, status, data_criacao, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
 public class Objetivo {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long versao;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "usuario_id", nullable = false)
     @NotNull(message = "Usuário é obrigatório")
@@ -52,6 +64,18 @@ public class Objetivo {
     @Column(name = "dias_estudo", length = 50)
     private String diasEstudo;
 
+    @ColumnDefault("0")
+    @Column(name = "total_tarefas", nullable = false)
+    private Integer totalTarefas = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "tarefas_concluidas", nullable = false)
+    private Integer tarefasConcluidas = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "minutos_concluidos", nullable = false)
+    private Long minutosConcluidos = 0L;
+
     @OneToMany(mappedBy = "objetivo", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<MiniTema> miniTemas = new ArrayList<>();
 
@@ -64,6 +88,34 @@ public class Objetivo {
         if (status == null) {
             status = ObjetivoStatus.RASCUNHO;
         }
+        if (totalTarefas == null) {
+            totalTarefas = 0;
+        }
+        if (tarefasConcluidas == null) {
+            tarefasConcluidas = 0;
+        }
+        if (minutosConcluidos == null) {
+            minutosConcluidos = 0L;
+        }
+    }
+
+    @Transient
+    public int getTarefasPendentes() {
+        return totalTarefas - tarefasConcluidas;
+    }
+
+    @Transient
+    public double getProgresso() {
+        if (totalTarefas == null || totalTarefas == 0) {
+            return 0.0;
+        }
+        return (tarefasConcluidas * 100.0) / totalTarefas;
+    }
+
+    public void reiniciarProgresso(int totalTarefas) {
+        this.totalTarefas = totalTarefas;
+        this.tarefasConcluidas = 0;
+        this.minutosConcluidos = 0L;
     }
 
     public void adicionarMiniTema(MiniTema miniTema) {
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -21,6 +22,11 @@ public class Tarefa {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long versao;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "objetivo_id", nullable = false)
     @NotNull(message = "Objetivo é obrigatório")
@@ -48,11 +54,14 @@ public class Tarefa {
     @Column(columnDefinition = "TEXT")
     private String observacoes;
 
-    @Column(length = 100)
-    private String titulo;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo_sessao", length = 20)
+    private TipoSessao tipoSessao;
 
-    @Column(columnDefinition = "TEXT")
-    private String descricao;
+    private Integer parte;
+
+    @Transient
+    private boolean arquivada;
 
     @PrePersist
     protected void onCreate() {
@@ -63,12 +72,25 @@ public class Tarefa {
 
     @Transient
     public boolean isEmAtraso() {
-        if (concluida) {
+        if (concluida || arquivada) {
             return false;
         }
         return dataAgendada.isBefore(LocalDate.now());
     }
 
+    @Transient
+    public String getTitulo() {
+        if (tipoSessao == null) {
+            return miniTema.getNome();
+        }
+        return tipoSessao.titulo(miniTema.getNome(), parte);
+    }
+
+    @Transient
+    public String getDescricao() {
+        return tipoSessao != null ? tipoSessao.getDescricao() : null;
+    }
+
     public void concluir() {
         this.concluida = true;
         this.dataConclusao = LocalDateTime.now();
@@ -0,0 +1,69 @@
+package com.estudos.planner.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tarefas_arquivo",
+        indexes = @Index(name = "idx_tarefas_arquivo_objetivo_data", columnList = "objetivo_id, data_agendada"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarefaArquivada {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "objetivo_id", nullable = false)
+    private Objetivo objetivo;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mini_tema_id", nullable = false)
+    private MiniTema miniTema;
+
+    @Column(name = "data_agendada", nullable = false)
+    private LocalDate dataAgendada;
+
+    @Column(nullable = false)
+    private Integer duracao;
+
+    @Column(nullable = false)
+    private Boolean concluida;
+
+    @Column(name = "data_conclusao")
+    private LocalDateTime dataConclusao;
+
+    @Column(columnDefinition = "TEXT")
+    private String observacoes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo_sessao", length = 20)
+    private TipoSessao tipoSessao;
+
+    private Integer parte;
+
+    @Column(name = "data_arquivamento", nullable = false)
+    private LocalDateTime dataArquivamento;
+
+    public Tarefa paraTarefa() {
+        Tarefa tarefa = new Tarefa();
+        tarefa.setId(id);
+        tarefa.setObjetivo(objetivo);
+        tarefa.setMiniTema(miniTema);
+        tarefa.setDataAgendada(dataAgendada);
+        tarefa.setDuracao(duracao);
+        tarefa.setConcluida(concluida);
+        tarefa.setDataConclusao(dataConclusao);
+        tarefa.setObservacoes(observacoes);
+        tarefa.setTipoSessao(tipoSessao);
+        tarefa.setParte(parte);
+        tarefa.setArquivada(true);
+        return tarefa;
+    }
+}
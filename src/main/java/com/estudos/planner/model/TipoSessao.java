@@ -0,0 +1,22 @@
+package com.estudos.planner.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TipoSessao {
+    FUNDAMENTOS("Fundamentos", "Estudo dos conceitos fundamentais e introdução ao tema"),
+    APROFUNDAMENTO("Aprofundamento", "Estudo detalhado e prática do conteúdo"),
+    REVISAO("Revisão e Consolidação", "Revisão geral e consolidação do aprendizado");
+
+    private final String rotulo;
+    private final String descricao;
+
+    public String titulo(String miniTemaNome, Integer parte) {
+        if (parte == null) {
+            return miniTemaNome + " - " + rotulo;
+        }
+        return miniTemaNome + " - " + rotulo + " (Parte " + parte + ")";
+    }
+}
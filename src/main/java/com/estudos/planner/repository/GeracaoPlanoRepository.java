@@ -0,0 +1,51 @@
+package com.estudos.planner.repository;
+
+import com.estudos.planner.model.GeracaoPlano;
+import com.estudos.planner.model.GeracaoPlanoStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GeracaoPlanoRepository extends JpaRepository<GeracaoPlano, Long> {
+
+    Optional<GeracaoPlano> findByObjetivoId(Long objetivoId);
+
+    List<GeracaoPlano> findByStatusAndDataAtualizacaoBefore(GeracaoPlanoStatus status, LocalDateTime limite);
+
+    @Modifying
+    @Query("UPDATE GeracaoPlano g SET g.status = com.estudos.planner.model.GeracaoPlanoStatus.EM_EXECUCAO, " +
+           "g.tentativas = g.tentativas + 1, g.dataAtualizacao = :agora " +
+           "WHERE g.id = :id AND g.status = com.estudos.planner.model.GeracaoPlanoStatus.PENDENTE")
+    int iniciar(@Param("id") Long id, @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("UPDATE GeracaoPlano g SET g.status = :status, g.tarefasCriadas = :tarefasCriadas, " +
+           "g.mensagemErro = :mensagemErro, g.dataAtualizacao = :agora WHERE g.id = :id")
+    int finalizar(
+            @Param("id") Long id,
+            @Param("status") GeracaoPlanoStatus status,
+            @Param("tarefasCriadas") Integer tarefasCriadas,
+            @Param("mensagemErro") String mensagemErro,
+            @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("UPDATE GeracaoPlano g SET g.status = com.estudos.planner.model.GeracaoPlanoStatus.PENDENTE, " +
+           "g.dataAtualizacao = :agora " +
+           "WHERE g.status = com.estudos.planner.model.GeracaoPlanoStatus.EM_EXECUCAO AND g.dataAtualizacao < :limite")
+    int reiniciarTravadas(@Param("limite") LocalDateTime limite, @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("DELETE FROM GeracaoPlano g WHERE g.objetivoId = :objetivoId")
+    int excluirPorObjetivoId(@Param("objetivoId") Long objetivoId);
+
+    @Modifying
+    @Query("DELETE FROM GeracaoPlano g WHERE g.objetivoId IN (:objetivoIds)")
+    int excluirPorObjetivoIds(@Param("objetivoIds") List<Long> objetivoIds);
+}
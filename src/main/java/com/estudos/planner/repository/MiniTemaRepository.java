@@ -3,6 +3,9 @@ package com.estudos.planner.repository;
 import com.estudos.planner.model.MiniTema;
 import com.estudos.planner.model.Objetivo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +18,24 @@ public interface MiniTemaRepository extends JpaRepository<MiniTema, Long> {
     List<MiniTema> findByObjetivoIdAndRemovidoFalseOrderByOrdem(Long objetivoId);
 
     long countByObjetivoAndRemovidoFalse(Objetivo objetivo);
+
+    @Query("SELECT mt.id, mt.cargaHorariaEstimada FROM MiniTema mt " +
+           "WHERE mt.objetivo.id = :objetivoId AND mt.objetivo.status = com.estudos.planner.model.ObjetivoStatus.RASCUNHO")
+    List<Object[]> findCargasPorObjetivoId(@Param("objetivoId") Long objetivoId);
+
+    @Modifying
+    @Query("UPDATE MiniTema mt SET mt.cargaHorariaEstimada = :carga " +
+           "WHERE mt.objetivo.id = :objetivoId AND mt.id IN (:ids)")
+    int atualizarCargaHoraria(
+            @Param("objetivoId") Long objetivoId,
+            @Param("ids") List<Long> ids,
+            @Param("carga") Integer carga);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MiniTema mt WHERE mt.objetivo.id = :objetivoId")
+    int excluirPorObjetivoId(@Param("objetivoId") Long objetivoId);
+
+    @Modifying
+    @Query("DELETE FROM MiniTema mt WHERE mt.objetivo.id IN (:objetivoIds)")
+    int excluirPorObjetivoIds(@Param("objetivoIds") List<Long> objetivoIds);
 }
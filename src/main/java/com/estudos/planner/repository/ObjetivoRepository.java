@@ -1,21 +1,115 @@
 package com.estudos.planner.repository;
 
+import com.estudos.planner.dto.ObjetivoResumoDTO;
 import com.estudos.planner.model.Objetivo;
 import com.estudos.planner.model.ObjetivoStatus;
 import com.estudos.planner.model.Usuario;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ObjetivoRepository extends JpaRepository<Objetivo, Long> {
 
-    List<Objetivo> findByUsuarioOrderByDataCriacaoDesc(Usuario usuario);
-
     List<Objetivo> findByUsuarioAndStatusOrderByDataLimiteAsc(Usuario usuario, ObjetivoStatus status);
 
-    List<Objetivo> findByUsuarioIdOrderByDataCriacaoDesc(Long usuarioId);
-
     long countByUsuarioAndStatus(Usuario usuario, ObjetivoStatus status);
+
+    long countByStatus(ObjetivoStatus status);
+
+    long countByUsuarioId(Long usuarioId);
+
+    @Query("SELECT new com.estudos.planner.dto.ObjetivoResumoDTO(" +
+           "o.id, o.temaPrincipal, o.dataLimite, o.status, o.horasPorDia, " +
+           "o.totalTarefas, o.tarefasConcluidas, o.minutosConcluidos, o.dataCriacao) " +
+           "FROM Objetivo o WHERE o.usuario.id = :usuarioId " +
+           "AND (o.dataCriacao < :dataCriacao OR (o.dataCriacao = :dataCriacao AND o.id < :id)) " +
+           "ORDER BY o.dataCriacao DESC, o.id DESC")
+    List<ObjetivoResumoDTO> findResumosPagina(
+            @Param("usuarioId") Long usuarioId,
+            @Param("dataCriacao") LocalDateTime dataCriacao,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("SELECT new com.estudos.planner.dto.ObjetivoResumoDTO(" +
+           "o.id, o.temaPrincipal, o.dataLimite, o.status, o.horasPorDia, " +
+           "o.totalTarefas, o.tarefasConcluidas, o.minutosConcluidos, o.dataCriacao) " +
+           "FROM Objetivo o WHERE o.usuario.id = :usuarioId AND o.status = :status " +
+           "AND (o.dataCriacao < :dataCriacao OR (o.dataCriacao = :dataCriacao AND o.id < :id)) " +
+           "ORDER BY o.dataCriacao DESC, o.id DESC")
+    List<ObjetivoResumoDTO> findResumosPaginaPorStatus(
+            @Param("usuarioId") Long usuarioId,
+            @Param("status") ObjetivoStatus status,
+            @Param("dataCriacao") LocalDateTime dataCriacao,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Objetivo o WHERE o.id = :objetivoId")
+    Optional<Objetivo> findParaAtualizacao(@Param("objetivoId") Long objetivoId);
+
+    @Modifying
+    @Query("UPDATE Objetivo o SET o.tarefasConcluidas = o.tarefasConcluidas + :tarefas, " +
+           "o.minutosConcluidos = o.minutosConcluidos + :minutos, o.versao = o.versao + 1 " +
+           "WHERE o.id = :objetivoId")
+    int ajustarProgresso(
+            @Param("objetivoId") Long objetivoId,
+            @Param("tarefas") int tarefas,
+            @Param("minutos") long minutos);
+
+    @Query("SELECT o.id FROM Objetivo o WHERE o.id > :ultimoId ORDER BY o.id ASC")
+    List<Long> findIdsApos(@Param("ultimoId") Long ultimoId, Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "objetivos"))
+    @Query(value = "UPDATE objetivos o SET " +
+                   "total_tarefas = (SELECT COUNT(*) FROM tarefas t WHERE t.objetivo_id = o.id) " +
+                   "+ (SELECT COUNT(*) FROM tarefas_arquivo a WHERE a.objetivo_id = o.id), " +
+                   "tarefas_concluidas = (SELECT COUNT(*) FROM tarefas t " +
+                   "WHERE t.objetivo_id = o.id AND t.concluida = true) " +
+                   "+ (SELECT COUNT(*) FROM tarefas_arquivo a WHERE a.objetivo_id = o.id AND a.concluida = true), " +
+                   "minutos_concluidos = (SELECT COALESCE(SUM(t.duracao), 0) FROM tarefas t " +
+                   "WHERE t.objetivo_id = o.id AND t.concluida = true) " +
+                   "+ (SELECT COALESCE(SUM(a.duracao), 0) FROM tarefas_arquivo a " +
+                   "WHERE a.objetivo_id = o.id AND a.concluida = true), " +
+                   "versao = versao + 1 " +
+                   "WHERE o.id IN (:ids)",
+           nativeQuery = true)
+    int reconciliarProgresso(@Param("ids") List<Long> ids);
+
+    @Query("SELECT o.id FROM Objetivo o " +
+           "WHERE o.status = com.estudos.planner.model.ObjetivoStatus.RASCUNHO " +
+           "AND o.dataCriacao < :limite AND o.id > :ultimoId " +
+           "AND NOT EXISTS (SELECT g.id FROM GeracaoPlano g WHERE g.objetivoId = o.id " +
+           "AND g.status IN (com.estudos.planner.model.GeracaoPlanoStatus.PENDENTE, " +
+           "com.estudos.planner.model.GeracaoPlanoStatus.EM_EXECUCAO)) " +
+           "ORDER BY o.id ASC")
+    List<Long> findRascunhosAbandonados(
+            @Param("limite") LocalDateTime limite,
+            @Param("ultimoId") Long ultimoId,
+            Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id FROM Objetivo o " +
+           "WHERE o.id IN (:ids) AND o.status = com.estudos.planner.model.ObjetivoStatus.RASCUNHO")
+    List<Long> travarRascunhos(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Objetivo o WHERE o.id IN (:ids)")
+    int excluirPorIds(@Param("ids") List<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Objetivo o WHERE o.id = :objetivoId")
+    int excluirPorId(@Param("objetivoId") Long objetivoId);
 }
@@ -0,0 +1,44 @@
+package com.estudos.planner.repository;
+
+import com.estudos.planner.model.TarefaArquivada;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TarefaArquivadaRepository extends JpaRepository<TarefaArquivada, Long> {
+
+    @Query("SELECT t FROM TarefaArquivada t JOIN FETCH t.objetivo o JOIN FETCH t.miniTema " +
+           "WHERE o.usuario.id = :usuarioId AND t.dataAgendada BETWEEN :inicio AND :fim " +
+           "ORDER BY t.dataAgendada ASC")
+    List<TarefaArquivada> findByUsuarioIdAndPeriodo(
+            @Param("usuarioId") Long usuarioId,
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.query.native.spaces", value = "tarefas_arquivo"))
+    @Query(value = "INSERT INTO tarefas_arquivo (id, objetivo_id, mini_tema_id, data_agendada, duracao, concluida, " +
+                   "data_conclusao, observacoes, tipo_sessao, parte, data_arquivamento) " +
+                   "SELECT t.id, t.objetivo_id, t.mini_tema_id, t.data_agendada, t.duracao, t.concluida, " +
+                   "t.data_conclusao, t.observacoes, t.tipo_sessao, t.parte, :agora " +
+                   "FROM tarefas t WHERE t.id IN (:ids)",
+           nativeQuery = true)
+    int arquivar(@Param("ids") List<Long> ids, @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("DELETE FROM TarefaArquivada t WHERE t.objetivo.id = :objetivoId")
+    int excluirPorObjetivoId(@Param("objetivoId") Long objetivoId);
+
+    @Modifying
+    @Query("DELETE FROM TarefaArquivada t WHERE t.objetivo.id IN (:objetivoIds)")
+    int excluirPorObjetivoIds(@Param("objetivoIds") List<Long> objetivoIds);
+}
@@ -1,13 +1,20 @@
 package com.estudos.planner.repository;
 
+import com.estudos.planner.dto.TarefaResumoDTO;
 import com.estudos.planner.model.Objetivo;
 import com.estudos.planner.model.Tarefa;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,7 +27,8 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
     List<Tarefa> findByDataAgendadaAndObjetivo_UsuarioIdOrderByDataAgendadaAsc(
             LocalDate dataAgendada, Long usuarioId);
 
-    @Query("SELECT t FROM Tarefa t WHERE t.objetivo.usuario.id = :usuarioId " +
+    @Query("SELECT t FROM Tarefa t JOIN FETCH t.objetivo o JOIN FETCH t.miniTema " +
+           "WHERE o.usuario.id = :usuarioId " +
            "AND t.dataAgendada BETWEEN :inicio AND :fim " +
            "ORDER BY t.dataAgendada ASC")
     List<Tarefa> findByUsuarioIdAndPeriodo(
@@ -35,6 +43,15 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
             @Param("usuarioId") Long usuarioId,
             @Param("hoje") LocalDate hoje);
 
+    @Query("SELECT new com.estudos.planner.dto.TarefaResumoDTO(" +
+           "t.id, t.objetivo.id, mt.nome, t.tipoSessao, t.parte, t.dataAgendada, t.duracao, t.concluida) " +
+           "FROM Tarefa t JOIN t.miniTema mt WHERE t.objetivo.usuario.id = :usuarioId " +
+           "AND (t.dataAgendada = :hoje OR (t.concluida = false AND t.dataAgendada < :hoje)) " +
+           "ORDER BY t.dataAgendada ASC, t.id ASC")
+    List<TarefaResumoDTO> findResumosHojeEAtrasadas(
+            @Param("usuarioId") Long usuarioId,
+            @Param("hoje") LocalDate hoje);
+
     List<Tarefa> findByObjetivoAndConcluidaFalseOrderByDataAgendadaAsc(Objetivo objetivo);
 
     @Query("SELECT COUNT(t) FROM Tarefa t WHERE t.objetivo = :objetivo AND t.concluida = true")
@@ -42,4 +59,69 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
 
     @Query("SELECT SUM(t.duracao) FROM Tarefa t WHERE t.objetivo = :objetivo AND t.concluida = true")
     Long sumDuracaoConcluidasByObjetivo(@Param("objetivo") Objetivo objetivo);
+
+    @Query("SELECT DISTINCT t.objetivo.id FROM Tarefa t " +
+           "WHERE t.concluida = false AND t.dataAgendada < :hoje AND t.objetivo.id > :ultimoId " +
+           "AND t.objetivo.status = com.estudos.planner.model.ObjetivoStatus.EM_ANDAMENTO " +
+           "ORDER BY t.objetivo.id ASC")
+    List<Long> findObjetivosComAtrasadas(
+            @Param("hoje") LocalDate hoje,
+            @Param("ultimoId") Long ultimoId,
+            Pageable pageable);
+
+    @Query("SELECT t.id, t.duracao FROM Tarefa t " +
+           "WHERE t.objetivo.id = :objetivoId AND t.concluida = false AND t.dataAgendada < :hoje " +
+           "ORDER BY t.dataAgendada ASC, t.id ASC")
+    List<Object[]> findAtrasadasParaReagendamento(
+            @Param("objetivoId") Long objetivoId,
+            @Param("hoje") LocalDate hoje);
+
+    @Query("SELECT t.dataAgendada, SUM(t.duracao) FROM Tarefa t " +
+           "WHERE t.objetivo.id = :objetivoId AND t.dataAgendada >= :inicio " +
+           "GROUP BY t.dataAgendada")
+    List<Object[]> sumDuracaoPorDataAPartirDe(
+            @Param("objetivoId") Long objetivoId,
+            @Param("inicio") LocalDate inicio);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Tarefa t WHERE t.id IN :ids AND t.objetivo.usuario.id = :usuarioId")
+    List<Tarefa> findParaAtualizacaoEmLote(
+            @Param("ids") Collection<Long> ids,
+            @Param("usuarioId") Long usuarioId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tarefa t SET t.concluida = true, t.dataConclusao = :agora, t.versao = t.versao + 1 " +
+           "WHERE t.id IN :ids AND t.concluida = false")
+    int concluirEmLote(@Param("ids") Collection<Long> ids, @Param("agora") LocalDateTime agora);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tarefa t SET t.concluida = false, t.dataConclusao = null, t.versao = t.versao + 1 " +
+           "WHERE t.id IN :ids AND t.concluida = true")
+    int desmarcarEmLote(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tarefa t SET t.dataAgendada = :novaData, t.versao = t.versao + 1 WHERE t.id IN :ids")
+    int reagendarEmLote(@Param("ids") Collection<Long> ids, @Param("novaData") LocalDate novaData);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Tarefa t WHERE t.objetivo.id = :objetivoId")
+    int excluirPorObjetivoId(@Param("objetivoId") Long objetivoId);
+
+    @Modifying
+    @Query("DELETE FROM Tarefa t WHERE t.objetivo.id IN (:objetivoIds)")
+    int excluirPorObjetivoIds(@Param("objetivoIds") List<Long> objetivoIds);
+
+    @Query("SELECT t.id FROM Tarefa t WHERE t.id > :ultimoId " +
+           "AND ((t.concluida = true AND t.dataAgendada < :limite) " +
+           "OR t.objetivo.status IN (com.estudos.planner.model.ObjetivoStatus.CONCLUIDO, " +
+           "com.estudos.planner.model.ObjetivoStatus.CANCELADO)) " +
+           "ORDER BY t.id ASC")
+    List<Long> findIdsParaArquivamento(
+            @Param("limite") LocalDate limite,
+            @Param("ultimoId") Long ultimoId,
+            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Tarefa t WHERE t.id IN (:ids)")
+    int excluirPorIds(@Param("ids") List<Long> ids);
 }
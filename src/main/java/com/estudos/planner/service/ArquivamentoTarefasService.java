@@ -0,0 +1,94 @@
+package com.estudos.planner.service;
+
+import com.estudos.planner.repository.TarefaArquivadaRepository;
+import com.estudos.planner.repository.TarefaRepository;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArquivamentoTarefasService {
+
+    private final TarefaRepository tarefaRepository;
+    private final TarefaArquivadaRepository tarefaArquivadaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricasService metricasService;
+
+    @Value("${planner.arquivamento.idade-dias:365}")
+    private long idadeDias;
+
+    @Value("${planner.arquivamento.lote:500}")
+    private int tamanhoLote;
+
+    @Value("${planner.arquivamento.pausa-ms:200}")
+    private long pausaMs;
+
+    @Value("${planner.arquivamento.limite-minutos:30}")
+    private long limiteMinutos;
+
+    @Scheduled(cron = "${planner.arquivamento.cron:0 0 4 * * *}")
+    public void arquivar() {
+        Timer.Sample amostra = metricasService.iniciarCronometro();
+        long inicio = System.currentTimeMillis();
+        long prazo = inicio + Duration.ofMinutes(limiteMinutos).toMillis();
+        LocalDate limite = LocalDate.now().minusDays(idadeDias);
+
+        log.info("Iniciando arquivamento de tarefas anteriores a {} e de objetivos encerrados", limite);
+
+        long ultimoId = 0L;
+        int arquivadas = 0;
+
+        try {
+            while (System.currentTimeMillis() < prazo) {
+                List<Long> ids = tarefaRepository.findIdsParaArquivamento(limite, ultimoId, PageRequest.of(0, tamanhoLote));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                Integer movidas = transactionTemplate.execute(status -> {
+                    int copiadas = tarefaArquivadaRepository.arquivar(ids, LocalDateTime.now());
+                    int excluidas = tarefaRepository.excluirPorIds(ids);
+                    if (copiadas != excluidas) {
+                        throw new RuntimeException("Arquivamento inconsistente: " + copiadas
+                                + " copiadas, " + excluidas + " excluídas");
+                    }
+                    return excluidas;
+                });
+
+                arquivadas += movidas != null ? movidas : 0;
+                metricasService.registrarTarefasArquivadas(movidas != null ? movidas : 0);
+                ultimoId = ids.get(ids.size() - 1);
+
+                if (ids.size() < tamanhoLote) {
+                    break;
+                }
+                Thread.sleep(pausaMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Erro no arquivamento de tarefas após a tarefa {}", ultimoId, e);
+        }
+
+        if (System.currentTimeMillis() >= prazo) {
+            log.warn("Arquivamento interrompido após {} minutos; restante fica para a próxima execução", limiteMinutos);
+        }
+
+        metricasService.registrarArquivamento(amostra);
+
+        log.info("Arquivamento concluído: {} tarefas movidas para tarefas_arquivo em {} ms",
+                arquivadas, System.currentTimeMillis() - inicio);
+    }
+}
@@ -3,7 +3,13 @@ package com.estudos.planner.service;
 import com.estudos.planner.model.MiniTema;
 import com.estudos.planner.model.Objetivo;
 import com.estudos.planner.model.Tarefa;
+import com.estudos.planner.model.TipoSessao;
+import com.estudos.planner.repository.MiniTemaRepository;
+import com.estudos.planner.repository.ObjetivoRepository;
+import com.estudos.planner.repository.TarefaArquivadaRepository;
 import com.estudos.planner.repository.TarefaRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,9 +23,14 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Observed(name = "planner.cronograma")
 public class CronogramaService {
 
     private final TarefaRepository tarefaRepository;
+    private final TarefaArquivadaRepository tarefaArquivadaRepository;
+    private final ObjetivoRepository objetivoRepository;
+    private final MiniTemaRepository miniTemaRepository;
+    private final MetricasService metricasService;
 
     public int calcularDiasUteis(LocalDate inicio, LocalDate fim, List<DayOfWeek> diasPermitidos) {
         int dias = 0;
@@ -36,6 +47,7 @@ public class CronogramaService {
     }
 
     public Map<String, Object> verificarViabilidade(Objetivo objetivo) {
+        Timer.Sample amostra = metricasService.iniciarCronometro();
         Map<String, Object> resultado = new HashMap<>();
 
         
@@ -85,23 +97,38 @@ public class CronogramaService {
             resultado.put("sugestaoRemocao", sugestaoRemocao);
         }
 
+        metricasService.registrarViabilidade(amostra, viavel);
+
         return resultado;
     }
 
     @Transactional
-    public void distribuirCargaHoraria(Objetivo objetivo) {
+    public int distribuirCargaHoraria(Objetivo objetivo) {
+        Timer.Sample amostra = metricasService.iniciarCronometro();
+        try {
+            int tarefasCriadas = gerarTarefas(objetivo);
+            metricasService.registrarDistribuicao(amostra, tarefasCriadas, true);
+            return tarefasCriadas;
+        } catch (RuntimeException e) {
+            metricasService.registrarDistribuicao(amostra, 0, false);
+            throw e;
+        }
+    }
+
+    private int gerarTarefas(Objetivo objetivo) {
         log.info("Distribuindo carga horária para objetivo {}", objetivo.getId());
 
         
-        List<Tarefa> tarefasExistentes = tarefaRepository.findByObjetivoOrderByDataAgendadaAsc(objetivo);
-        tarefaRepository.deleteAll(tarefasExistentes);
+        tarefaRepository.excluirPorObjetivoId(objetivo.getId());
+        tarefaArquivadaRepository.excluirPorObjetivoId(objetivo.getId());
 
         
         List<DayOfWeek> diasPermitidos = parsearDiasEstudo(objetivo.getDiasEstudo());
 
         
-        List<MiniTema> miniTemasOrdenados = objetivo.getMiniTemas().stream()
-                .filter(mt -> !mt.getRemovido())
+        // Lidos do banco, e não da coleção em cache: a carga horária de um rascunho pode ter mudado em outro nó
+        List<MiniTema> miniTemasOrdenados = miniTemaRepository.findByObjetivoIdAndRemovidoFalseOrderByOrdem(objetivo.getId())
+                .stream()
                 .sorted(Comparator.comparingInt(MiniTema::getCargaHorariaEstimada).reversed())
                 .collect(Collectors.toList());
 
@@ -119,12 +146,13 @@ public class CronogramaService {
         
         int indiceDia = 0;
         int horasUsadasNoDia = 0;
+        int tarefasCriadas = 0;
 
         for (MiniTema miniTema : miniTemasOrdenados) {
             int cargaTotal = miniTema.getCargaHorariaEstimada();
 
             
-            List<SessaoEstudo> sessoes = dividirEmSessoes(miniTema, cargaTotal);
+            List<SessaoEstudo> sessoes = dividirEmSessoes(cargaTotal);
 
             for (SessaoEstudo sessao : sessoes) {
                 
@@ -146,21 +174,26 @@ public class CronogramaService {
                 tarefa.setMiniTema(miniTema);
                 tarefa.setDataAgendada(datasDisponiveis.get(indiceDia));
                 tarefa.setDuracao(sessao.duracao * 60);
-                tarefa.setTitulo(sessao.titulo);
-                tarefa.setDescricao(sessao.descricao);
+                tarefa.setTipoSessao(sessao.tipo);
+                tarefa.setParte(sessao.parte);
                 tarefa.setConcluida(false);
 
                 tarefaRepository.save(tarefa);
 
                 horasUsadasNoDia += sessao.duracao;
+                tarefasCriadas++;
             }
         }
 
-        log.info("Distribuição concluída: {} tarefas criadas",
-                tarefaRepository.findByObjetivoOrderByDataAgendadaAsc(objetivo).size());
+        objetivo.reiniciarProgresso(tarefasCriadas);
+        objetivoRepository.save(objetivo);
+
+        log.info("Distribuição concluída: {} tarefas criadas", tarefasCriadas);
+
+        return tarefasCriadas;
     }
 
-    private List<SessaoEstudo> dividirEmSessoes(MiniTema miniTema, int cargaTotal) {
+    private List<SessaoEstudo> dividirEmSessoes(int cargaTotal) {
         List<SessaoEstudo> sessoes = new ArrayList<>();
 
         
@@ -170,11 +203,7 @@ public class CronogramaService {
             int horasPorSessao = (int) Math.ceil((double) horasFundamentos / numSessoesFund);
 
             for (int i = 0; i < numSessoesFund; i++) {
-                sessoes.add(new SessaoEstudo(
-                        miniTema.getNome() + " - Fundamentos (Parte " + (i + 1) + ")",
-                        "Estudo dos conceitos fundamentais e introdução ao tema",
-                        Math.min(horasPorSessao, 2)
-                ));
+                sessoes.add(new SessaoEstudo(TipoSessao.FUNDAMENTOS, i + 1, Math.min(horasPorSessao, 2)));
             }
         }
 
@@ -185,22 +214,14 @@ public class CronogramaService {
             int horasPorSessao = (int) Math.ceil((double) horasAprofundamento / numSessoesAprof);
 
             for (int i = 0; i < numSessoesAprof; i++) {
-                sessoes.add(new SessaoEstudo(
-                        miniTema.getNome() + " - Aprofundamento (Parte " + (i + 1) + ")",
-                        "Estudo detalhado e prática do conteúdo",
-                        Math.min(horasPorSessao, 2)
-                ));
+                sessoes.add(new SessaoEstudo(TipoSessao.APROFUNDAMENTO, i + 1, Math.min(horasPorSessao, 2)));
             }
         }
 
         
         int horasRevisao = cargaTotal - horasFundamentos - horasAprofundamento;
         if (horasRevisao > 0) {
-            sessoes.add(new SessaoEstudo(
-                    miniTema.getNome() + " - Revisão e Consolidação",
-                    "Revisão geral e consolidação do aprendizado",
-                    horasRevisao
-            ));
+            sessoes.add(new SessaoEstudo(TipoSessao.REVISAO, null, horasRevisao));
         }
 
         return sessoes;
@@ -220,7 +241,7 @@ public class CronogramaService {
         return datas;
     }
 
-    private List<DayOfWeek> parsearDiasEstudo(String diasEstudo) {
+    public List<DayOfWeek> parsearDiasEstudo(String diasEstudo) {
         List<DayOfWeek> dias = new ArrayList<>();
 
         if (diasEstudo == null || diasEstudo.isEmpty()) {
@@ -249,13 +270,13 @@ public class CronogramaService {
     }
 
     private static class SessaoEstudo {
-        String titulo;
-        String descricao;
+        TipoSessao tipo;
+        Integer parte;
         int duracao;
 
-        public SessaoEstudo(String titulo, String descricao, int duracao) {
-            this.titulo = titulo;
-            this.descricao = descricao;
+        public SessaoEstudo(TipoSessao tipo, Integer parte, int duracao) {
+            this.tipo = tipo;
+            this.parte = parte;
             this.duracao = duracao;
         }
     }
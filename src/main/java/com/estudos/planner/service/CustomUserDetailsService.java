@@ -1,19 +1,21 @@
 package com.estudos.planner.service;
 
+import com.estudos.planner.dto.UsuarioAutenticado;
 import com.estudos.planner.model.Usuario;
 import com.estudos.planner.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.User;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-
-import java.util.ArrayList;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UsuarioRepository usuarioRepository;
 
@@ -26,10 +28,24 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("Usuário inativo: " + email);
         }
 
-        return User.builder()
-                .username(usuario.getEmail())
-                .password(usuario.getSenha())
-                .authorities(new ArrayList<>())
-                .build();
+        return new UsuarioAutenticado(
+                usuario.getId(),
+                usuario.getNome(),
+                usuario.getEmail(),
+                usuario.getSenha());
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String novaSenha) {
+        UsuarioAutenticado autenticado = (UsuarioAutenticado) user;
+        usuarioRepository.atualizarSenha(autenticado.getId(), novaSenha);
+        log.info("Hash de senha do usuário {} atualizado para a força configurada", autenticado.getId());
+
+        return new UsuarioAutenticado(
+                autenticado.getId(),
+                autenticado.getNome(),
+                autenticado.getUsername(),
+                novaSenha);
     }
 }
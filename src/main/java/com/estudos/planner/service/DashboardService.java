@@ -0,0 +1,41 @@
+package com.estudos.planner.service;
+
+import com.estudos.planner.dto.DashboardDTO;
+import com.estudos.planner.dto.PaginaObjetivosDTO;
+import com.estudos.planner.dto.TarefaResumoDTO;
+import com.estudos.planner.repository.TarefaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private final ObjetivoService objetivoService;
+    private final TarefaRepository tarefaRepository;
+
+    @Transactional(readOnly = true)
+    public DashboardDTO montar(Long usuarioId) {
+        DashboardDTO dashboard = new DashboardDTO();
+        PaginaObjetivosDTO objetivos = objetivoService.listarPagina(usuarioId, null, null, null);
+        dashboard.setObjetivos(objetivos.getItens());
+        dashboard.setProximoCursorObjetivos(objetivos.getProximoCursor());
+        dashboard.setTotalObjetivos(objetivos.getProximoCursor() == null
+                ? objetivos.getItens().size()
+                : objetivoService.contarPorUsuario(usuarioId));
+
+        LocalDate hoje = LocalDate.now();
+        for (TarefaResumoDTO tarefa : tarefaRepository.findResumosHojeEAtrasadas(usuarioId, hoje)) {
+            if (tarefa.getDataAgendada().isBefore(hoje)) {
+                dashboard.getTarefasAtrasadas().add(tarefa);
+            } else {
+                dashboard.getTarefasHoje().add(tarefa);
+            }
+        }
+
+        return dashboard;
+    }
+}
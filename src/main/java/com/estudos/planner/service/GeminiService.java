@@ -5,9 +5,14 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -15,7 +20,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Service
+@Lazy
 @Slf4j
+@Observed(name = "planner.gemini")
 public class GeminiService {
 
     @Value("${gemini.api.key}")
@@ -26,8 +33,12 @@ public class GeminiService {
 
     private final OkHttpClient httpClient;
     private final Gson gson;
+    private final MetricasService metricasService;
+    private final ObservationRegistry observationRegistry;
 
-    public GeminiService() {
+    public GeminiService(MetricasService metricasService, ObservationRegistry observationRegistry) {
+        this.metricasService = metricasService;
+        this.observationRegistry = observationRegistry;
         this.httpClient = new OkHttpClient.Builder()
                 .connectTimeout(Duration.ofSeconds(30))
                 .readTimeout(Duration.ofSeconds(30))
@@ -39,17 +50,26 @@ public class GeminiService {
     public List<MiniTemaDTO> sugerirMiniTemas(String temaPrincipal) {
         log.info("Solicitando sugestões de mini-temas para: {}", temaPrincipal);
 
+        Timer.Sample amostra = metricasService.iniciarCronometro();
+        String resultado = "sucesso";
         try {
             String prompt = construirPrompt(temaPrincipal);
             String resposta = chamarGeminiAPI(prompt);
             List<MiniTemaDTO> miniTemas = parsearResposta(resposta);
 
+            if (miniTemas.isEmpty()) {
+                resultado = "resposta_invalida";
+            }
+
             log.info("Recebidas {} sugestões de mini-temas", miniTemas.size());
             return miniTemas;
 
         } catch (Exception e) {
+            resultado = "erro";
             log.error("Erro ao chamar API Gemini", e);
             return new ArrayList<>();
+        } finally {
+            metricasService.registrarChamadaGemini(amostra, resultado);
         }
     }
 
@@ -114,7 +134,16 @@ public class GeminiService {
                 .addHeader("Content-Type", "application/json")
                 .build();
 
-        try (Response response = httpClient.newCall(request).execute()) {
+        Observation observacao = Observation.createNotStarted("planner.gemini.requisicao", observationRegistry)
+                .contextualName("gemini generateContent")
+                .lowCardinalityKeyValue("http.method", "POST")
+                .highCardinalityKeyValue("http.url", apiUrl)
+                .start();
+
+        try (Observation.Scope escopo = observacao.openScope();
+             Response response = httpClient.newCall(request).execute()) {
+            observacao.lowCardinalityKeyValue("http.status_code", String.valueOf(response.code()));
+
             if (!response.isSuccessful()) {
                 String errorBody = response.body() != null ? response.body().string() : "No error body";
                 log.error("Erro na API Gemini: HTTP {} - {}", response.code(), errorBody);
@@ -138,6 +167,11 @@ public class GeminiService {
             String text = parts.get(0).getAsJsonObject().get("text").getAsString();
 
             return text;
+        } catch (Exception e) {
+            observacao.error(e);
+            throw e;
+        } finally {
+            observacao.stop();
         }
     }
 
@@ -191,6 +225,7 @@ public class GeminiService {
 
         } catch (Exception e) {
             log.error("Erro ao parsear resposta do Gemini", e);
+            metricasService.registrarFalhaParseGemini();
             
         }
 
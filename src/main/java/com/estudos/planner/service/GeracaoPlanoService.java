@@ -0,0 +1,163 @@
+package com.estudos.planner.service;
+
+import com.estudos.planner.model.GeracaoPlano;
+import com.estudos.planner.model.GeracaoPlanoStatus;
+import com.estudos.planner.model.Objetivo;
+import com.estudos.planner.repository.GeracaoPlanoRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GeracaoPlanoService {
+
+    private final GeracaoPlanoRepository geracaoPlanoRepository;
+    private final ObjetivoService objetivoService;
+    private final CronogramaService cronogramaService;
+    private final TransactionTemplate transactionTemplate;
+    private final RetentativaService retentativaService;
+    private final ThreadPoolTaskExecutor geracaoPlanoExecutor;
+    private final MetricasService metricasService;
+    private final ObservationRegistry observationRegistry;
+
+    @Value("${planner.geracao.timeout-minutos:10}")
+    private long timeoutMinutos;
+
+    public GeracaoPlano solicitar(Long objetivoId) {
+        GeracaoPlano geracao;
+        try {
+            geracao = transactionTemplate.execute(status -> registrar(objetivoId));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Geração do objetivo {} já registrada por outra requisição", objetivoId);
+            geracao = buscarPorObjetivo(objetivoId);
+        }
+
+        if (geracao.getStatus() == GeracaoPlanoStatus.PENDENTE) {
+            enfileirarAposCommit(geracao.getId());
+        }
+
+        return geracao;
+    }
+
+    @Transactional(readOnly = true)
+    public GeracaoPlano buscarPorObjetivo(Long objetivoId) {
+        return geracaoPlanoRepository.findByObjetivoId(objetivoId)
+                .orElseThrow(() -> new RuntimeException("Geração não encontrada para objetivo: " + objetivoId));
+    }
+
+    @Scheduled(
+            initialDelayString = "${planner.geracao.varredura-ms:60000}",
+            fixedDelayString = "${planner.geracao.varredura-ms:60000}")
+    public void retomarPendentes() {
+        LocalDateTime agora = LocalDateTime.now();
+
+        int travadas = transactionTemplate.execute(status ->
+                geracaoPlanoRepository.reiniciarTravadas(agora.minusMinutes(timeoutMinutos), agora));
+        if (travadas > 0) {
+            log.warn("{} gerações de plano travadas foram reiniciadas", travadas);
+        }
+
+        List<GeracaoPlano> pendentes = geracaoPlanoRepository.findByStatusAndDataAtualizacaoBefore(
+                GeracaoPlanoStatus.PENDENTE, agora.minusSeconds(30));
+        for (GeracaoPlano geracao : pendentes) {
+            enfileirar(geracao.getId());
+        }
+    }
+
+    private GeracaoPlano registrar(Long objetivoId) {
+        GeracaoPlano geracao = geracaoPlanoRepository.findByObjetivoId(objetivoId).orElse(null);
+
+        if (geracao == null) {
+            geracao = new GeracaoPlano();
+            geracao.setObjetivoId(objetivoId);
+            log.info("Registrando geração de plano para objetivo {}", objetivoId);
+            return geracaoPlanoRepository.saveAndFlush(geracao);
+        }
+
+        if (geracao.isAtiva()) {
+            log.info("Geração de plano do objetivo {} já está em andamento", objetivoId);
+            return geracao;
+        }
+
+        geracao.reiniciar();
+        return geracaoPlanoRepository.save(geracao);
+    }
+
+    private void enfileirarAposCommit(Long geracaoId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enfileirar(geracaoId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enfileirar(geracaoId);
+            }
+        });
+    }
+
+    private void enfileirar(Long geracaoId) {
+        try {
+            geracaoPlanoExecutor.execute(() -> Observation.createNotStarted("planner.geracao", observationRegistry)
+                    .contextualName("gerar plano")
+                    .highCardinalityKeyValue("geracao.id", String.valueOf(geracaoId))
+                    .observe(() -> executar(geracaoId)));
+        } catch (TaskRejectedException e) {
+            log.warn("Fila de geração cheia, geração {} será retomada na próxima varredura", geracaoId);
+        }
+    }
+
+    private void executar(Long geracaoId) {
+        Integer iniciadas = transactionTemplate.execute(status ->
+                geracaoPlanoRepository.iniciar(geracaoId, LocalDateTime.now()));
+        if (iniciadas == null || iniciadas == 0) {
+            return;
+        }
+
+        GeracaoPlano geracao = geracaoPlanoRepository.findById(geracaoId)
+                .orElseThrow(() -> new RuntimeException("Geração não encontrada: " + geracaoId));
+        Long objetivoId = geracao.getObjetivoId();
+
+        try {
+            Integer tarefasCriadas = retentativaService.executar("gerar plano do objetivo " + objetivoId, () -> {
+                Objetivo objetivo = objetivoService.buscarParaAtualizacao(objetivoId);
+                int criadas = cronogramaService.distribuirCargaHoraria(objetivo);
+                objetivoService.finalizarObjetivo(objetivoId);
+                return criadas;
+            });
+
+            metricasService.registrarTarefasCriadas(tarefasCriadas);
+
+            transactionTemplate.executeWithoutResult(status -> geracaoPlanoRepository.finalizar(
+                    geracaoId, GeracaoPlanoStatus.CONCLUIDO, tarefasCriadas, null, LocalDateTime.now()));
+
+            log.info("Geração {} concluída: {} tarefas para objetivo {}", geracaoId, tarefasCriadas, objetivoId);
+
+        } catch (Exception e) {
+            log.error("Erro na geração {} do objetivo {}", geracaoId, objetivoId, e);
+
+            String mensagem = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            transactionTemplate.executeWithoutResult(status -> geracaoPlanoRepository.finalizar(
+                    geracaoId, GeracaoPlanoStatus.FALHOU, null,
+                    mensagem.length() > 500 ? mensagem.substring(0, 500) : mensagem,
+                    LocalDateTime.now()));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.estudos.planner.service;
+
+import com.estudos.planner.repository.GeracaoPlanoRepository;
+import com.estudos.planner.repository.MiniTemaRepository;
+import com.estudos.planner.repository.ObjetivoRepository;
+import com.estudos.planner.repository.TarefaArquivadaRepository;
+import com.estudos.planner.repository.TarefaRepository;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LimpezaRascunhosService {
+
+    private final ObjetivoRepository objetivoRepository;
+    private final MiniTemaRepository miniTemaRepository;
+    private final TarefaRepository tarefaRepository;
+    private final TarefaArquivadaRepository tarefaArquivadaRepository;
+    private final GeracaoPlanoRepository geracaoPlanoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricasService metricasService;
+
+    @Value("${planner.rascunho.limpeza.idade-horas:24}")
+    private long idadeHoras;
+
+    @Value("${planner.rascunho.limpeza.lote:200}")
+    private int tamanhoLote;
+
+    @Value("${planner.rascunho.limpeza.pausa-ms:500}")
+    private long pausaMs;
+
+    @Value("${planner.rascunho.limpeza.limite-minutos:5}")
+    private long limiteMinutos;
+
+    @Scheduled(cron = "${planner.rascunho.limpeza.cron:0 40 * * * *}")
+    public void excluirAbandonados() {
+        Timer.Sample amostra = metricasService.iniciarCronometro();
+        long inicio = System.currentTimeMillis();
+        long prazo = inicio + Duration.ofMinutes(limiteMinutos).toMillis();
+        LocalDateTime limite = LocalDateTime.now().minusHours(idadeHoras);
+
+        long ultimoId = 0L;
+        int objetivos = 0;
+        int miniTemas = 0;
+        int lotes = 0;
+
+        try {
+            while (System.currentTimeMillis() < prazo) {
+                List<Long> ids = objetivoRepository.findRascunhosAbandonados(
+                        limite, ultimoId, PageRequest.of(0, tamanhoLote));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                int[] excluidos = transactionTemplate.execute(status -> excluirLote(ids));
+                objetivos += excluidos[0];
+                miniTemas += excluidos[1];
+                metricasService.registrarRascunhosExcluidos(excluidos[0], excluidos[1]);
+                ultimoId = ids.get(ids.size() - 1);
+                lotes++;
+
+                if (ids.size() < tamanhoLote) {
+                    break;
+                }
+                Thread.sleep(pausaMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Erro na limpeza de rascunhos abandonados após o objetivo {}", ultimoId, e);
+        }
+
+        if (System.currentTimeMillis() >= prazo) {
+            log.warn("Limpeza de rascunhos interrompida após {} minutos; restante fica para a próxima execução",
+                    limiteMinutos);
+        }
+
+        metricasService.registrarLimpezaRascunhos(amostra);
+
+        if (objetivos > 0) {
+            log.info("Limpeza de rascunhos: {} objetivos e {} mini-temas excluídos em {} lotes ({} ms)",
+                    objetivos, miniTemas, lotes, System.currentTimeMillis() - inicio);
+        }
+    }
+
+    private int[] excluirLote(List<Long> candidatos) {
+        List<Long> ids = objetivoRepository.travarRascunhos(candidatos);
+        if (ids.isEmpty()) {
+            return new int[]{0, 0};
+        }
+
+        tarefaRepository.excluirPorObjetivoIds(ids);
+        tarefaArquivadaRepository.excluirPorObjetivoIds(ids);
+        int miniTemas = miniTemaRepository.excluirPorObjetivoIds(ids);
+        geracaoPlanoRepository.excluirPorObjetivoIds(ids);
+        int objetivos = objetivoRepository.excluirPorIds(ids);
+
+        return new int[]{objetivos, miniTemas};
+    }
+}
@@ -0,0 +1,89 @@
+package com.estudos.planner.service;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(name = "planner.sessao.armazenamento", havingValue = "jdbc", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class LimpezaSessoesService {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricasService metricasService;
+
+    @Value("${spring.session.jdbc.table-name:SPRING_SESSION}")
+    private String tabela;
+
+    @Value("${planner.sessao.limpeza.lote:500}")
+    private int tamanhoLote;
+
+    @Value("${planner.sessao.limpeza.pausa-ms:100}")
+    private long pausaMs;
+
+    @Value("${planner.sessao.limpeza.limite-minutos:2}")
+    private long limiteMinutos;
+
+    @Scheduled(cron = "${planner.sessao.limpeza.cron:0 */5 * * * *}")
+    public void excluirExpiradas() {
+        Timer.Sample amostra = metricasService.iniciarCronometro();
+        long inicio = System.currentTimeMillis();
+        long prazo = inicio + Duration.ofMinutes(limiteMinutos).toMillis();
+
+        int excluidas = 0;
+        int lotes = 0;
+
+        try {
+            while (System.currentTimeMillis() < prazo) {
+                MapSqlParameterSource parametros = new MapSqlParameterSource("agora", System.currentTimeMillis())
+                        .addValue("lote", tamanhoLote);
+                List<String> ids = jdbcTemplate.queryForList(
+                        "SELECT PRIMARY_ID FROM " + tabela + " WHERE EXPIRY_TIME < :agora ORDER BY EXPIRY_TIME LIMIT :lote",
+                        parametros, String.class);
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                Integer lote = transactionTemplate.execute(status -> jdbcTemplate.update(
+                        "DELETE FROM " + tabela + " WHERE PRIMARY_ID IN (:ids) AND EXPIRY_TIME < :agora",
+                        parametros.addValue("ids", ids)));
+                excluidas += lote;
+                metricasService.registrarSessoesExpiradas(lote);
+                lotes++;
+
+                if (ids.size() < tamanhoLote) {
+                    break;
+                }
+                Thread.sleep(pausaMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Erro na remoção de sessões expiradas após {} sessões", excluidas, e);
+        }
+
+        if (System.currentTimeMillis() >= prazo) {
+            log.warn("Remoção de sessões expiradas interrompida após {} minutos; restante fica para a próxima execução",
+                    limiteMinutos);
+        }
+
+        metricasService.registrarLimpezaSessoes(amostra);
+
+        if (excluidas > 0) {
+            log.info("Limpeza de sessões: {} sessões expiradas removidas em {} lotes ({} ms)",
+                    excluidas, lotes, System.currentTimeMillis() - inicio);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.estudos.planner.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MetricasService {
+
+    private final MeterRegistry registry;
+    private final Counter falhasParseGemini;
+
+    public MetricasService(MeterRegistry registry) {
+        this.registry = registry;
+        this.falhasParseGemini = Counter.builder("planner.gemini.parse.falhas")
+                .description("Respostas do Gemini que não puderam ser convertidas em mini-temas")
+                .register(registry);
+    }
+
+    public Timer.Sample iniciarCronometro() {
+        return Timer.start(registry);
+    }
+
+    public void registrarDistribuicao(Timer.Sample amostra, int tarefasCriadas, boolean sucesso) {
+        amostra.stop(Timer.builder("planner.cronograma.distribuicao")
+                .description("Tempo de distribuição da carga horária em tarefas")
+                .tag("tamanho", sucesso ? faixaTamanhoPlano(tarefasCriadas) : "nenhum")
+                .tag("resultado", sucesso ? "sucesso" : "erro")
+                .register(registry));
+    }
+
+    public void registrarViabilidade(Timer.Sample amostra, boolean viavel) {
+        amostra.stop(Timer.builder("planner.cronograma.viabilidade")
+                .description("Tempo da verificação de viabilidade do objetivo")
+                .tag("viavel", String.valueOf(viavel))
+                .register(registry));
+    }
+
+    public void registrarChamadaGemini(Timer.Sample amostra, String resultado) {
+        amostra.stop(Timer.builder("planner.gemini.chamadas")
+                .description("Latência das chamadas à API Gemini")
+                .tag("resultado", resultado)
+                .register(registry));
+    }
+
+    public void registrarFalhaParseGemini() {
+        falhasParseGemini.increment();
+    }
+
+    public void registrarTarefasCriadas(int quantidade) {
+        incrementar("planner.tarefas.criadas", "geracao", quantidade);
+    }
+
+    public void registrarTarefasConcluidas(String origem, int quantidade) {
+        incrementar("planner.tarefas.concluidas", origem, quantidade);
+    }
+
+    public void registrarTarefasReagendadas(String origem, int quantidade) {
+        incrementar("planner.tarefas.reagendadas", origem, quantidade);
+    }
+
+    public void registrarTarefasArquivadas(int quantidade) {
+        incrementar("planner.tarefas.arquivadas", "arquivamento", quantidade);
+    }
+
+    public void registrarArquivamento(Timer.Sample amostra) {
+        amostra.stop(Timer.builder("planner.arquivamento")
+                .description("Duração do arquivamento de tarefas antigas")
+                .register(registry));
+    }
+
+    public void registrarRascunhosExcluidos(int objetivos, int miniTemas) {
+        if (objetivos > 0) {
+            registry.counter("planner.rascunhos.excluidos", "tipo", "objetivo").increment(objetivos);
+        }
+        if (miniTemas > 0) {
+            registry.counter("planner.rascunhos.excluidos", "tipo", "mini-tema").increment(miniTemas);
+        }
+    }
+
+    public void registrarLimpezaRascunhos(Timer.Sample amostra) {
+        amostra.stop(Timer.builder("planner.rascunhos.limpeza")
+                .description("Duração da limpeza de rascunhos abandonados")
+                .register(registry));
+    }
+
+    public void registrarCacheSessao(boolean acerto) {
+        registry.counter("planner.sessoes.cache", "resultado", acerto ? "acerto" : "falha").increment();
+    }
+
+    public void registrarSessoesExpiradas(int quantidade) {
+        if (quantidade > 0) {
+            registry.counter("planner.sessoes.expiradas").increment(quantidade);
+        }
+    }
+
+    public void registrarLimpezaSessoes(Timer.Sample amostra) {
+        amostra.stop(Timer.builder("planner.sessoes.limpeza")
+                .description("Duração da remoção de sessões expiradas")
+                .register(registry));
+    }
+
+    public void registrarHashSenha(Timer.Sample amostra, String operacao) {
+        amostra.stop(Timer.builder("planner.senha.hash")
+                .description("Tempo de hash de senha, incluindo a espera na fila")
+                .tag("operacao", operacao)
+                .register(registry));
+    }
+
+    public void registrarRejeicaoAutenticacao(String motivo) {
+        registry.counter("planner.autenticacao.rejeitadas", "motivo", motivo).increment();
+    }
+
+    private void incrementar(String nome, String origem, int quantidade) {
+        if (quantidade > 0) {
+            registry.counter(nome, "origem", origem).increment(quantidade);
+        }
+    }
+
+    private String faixaTamanhoPlano(int tarefas) {
+        if (tarefas <= 20) {
+            return "ate-20";
+        }
+        if (tarefas <= 100) {
+            return "ate-100";
+        }
+        if (tarefas <= 500) {
+            return "ate-500";
+        }
+        return "acima-500";
+    }
+}
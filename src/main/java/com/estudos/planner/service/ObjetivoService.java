@@ -1,27 +1,46 @@
 package com.estudos.planner.service;
 
 import com.estudos.planner.dto.MiniTemaDTO;
+import com.estudos.planner.dto.ObjetivoResumoDTO;
+import com.estudos.planner.dto.PaginaObjetivosDTO;
+import com.estudos.planner.dto.RascunhoObjetivo;
 import com.estudos.planner.model.*;
+import com.estudos.planner.repository.GeracaoPlanoRepository;
 import com.estudos.planner.repository.MiniTemaRepository;
 import com.estudos.planner.repository.ObjetivoRepository;
+import com.estudos.planner.repository.TarefaArquivadaRepository;
 import com.estudos.planner.repository.TarefaRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Observed(name = "planner.objetivo")
 public class ObjetivoService {
 
+    private static final int TAMANHO_MAXIMO_PAGINA = 50;
+    private static final LocalDateTime INICIO_PAGINACAO = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final ObjetivoRepository objetivoRepository;
     private final MiniTemaRepository miniTemaRepository;
     private final TarefaRepository tarefaRepository;
+    private final TarefaArquivadaRepository tarefaArquivadaRepository;
+    private final GeracaoPlanoRepository geracaoPlanoRepository;
+
+    @Value("${planner.objetivos.pagina.tamanho:12}")
+    private int tamanhoPaginaPadrao;
 
     @Transactional
     public Objetivo criarRascunho(Usuario usuario, String temaPrincipal, LocalDate dataLimite) {
@@ -42,6 +61,9 @@ public class ObjetivoService {
 
         Objetivo objetivo = objetivoRepository.findById(objetivoId)
                 .orElseThrow(() -> new RuntimeException("Objetivo não encontrado"));
+        if (objetivo.getStatus() != ObjetivoStatus.RASCUNHO) {
+            throw new RuntimeException("Mini-temas só podem ser alterados em rascunhos");
+        }
 
         objetivo.getMiniTemas().clear();
 
@@ -49,42 +71,84 @@ public class ObjetivoService {
         int ordem = 1;
         for (MiniTemaDTO dto : miniTemasDTO) {
             if (dto.getSelecionado()) {
-                MiniTema miniTema = new MiniTema();
-                miniTema.setObjetivo(objetivo);
-                miniTema.setNome(dto.getNome());
-                miniTema.setDescricao(dto.getDescricao());
-                miniTema.setCargaHorariaEstimada(dto.getHorasEstimadas());
-                miniTema.setOrdem(ordem++);
-                miniTema.setSugeridoPorIA(dto.getSugeridoPorIA());
-                miniTema.setRemovido(false);
-
-                objetivo.getMiniTemas().add(miniTema);
+                objetivo.getMiniTemas().add(novoMiniTema(objetivo, dto, ordem++));
             }
         }
 
         objetivoRepository.save(objetivo);
     }
 
+    @Transactional
+    public Objetivo persistirRascunho(Usuario usuario, RascunhoObjetivo rascunho) {
+        log.info("Persistindo rascunho {} do usuário {} com {} mini-temas",
+                rascunho.getId(), rascunho.getUsuarioId(), rascunho.getMiniTemas().size());
+
+        Objetivo objetivo = new Objetivo();
+        objetivo.setUsuario(usuario);
+        objetivo.setTemaPrincipal(rascunho.getTemaPrincipal());
+        objetivo.setDataLimite(rascunho.getDataLimite());
+        objetivo.setHorasPorDia(rascunho.getHorasPorDia());
+        objetivo.setDiasEstudo(rascunho.getDiasEstudo());
+        objetivo.setStatus(ObjetivoStatus.RASCUNHO);
+
+        int ordem = 1;
+        for (MiniTemaDTO dto : rascunho.getMiniTemas()) {
+            objetivo.getMiniTemas().add(novoMiniTema(objetivo, dto, ordem++));
+        }
+
+        return objetivoRepository.save(objetivo);
+    }
+
     @Transactional
     public void atualizarCargasHorarias(Long objetivoId, List<Long> miniTemaIds, List<Integer> cargas) {
         log.info("Atualizando cargas horárias do objetivo {}", objetivoId);
 
-        Objetivo objetivo = objetivoRepository.findById(objetivoId)
-                .orElseThrow(() -> new RuntimeException("Objetivo não encontrado"));
+        validarCargasHorarias(miniTemaIds, cargas);
 
+        Map<Long, Integer> cargasAtuais = new HashMap<>();
+        for (Object[] linha : miniTemaRepository.findCargasPorObjetivoId(objetivoId)) {
+            cargasAtuais.put((Long) linha[0], (Integer) linha[1]);
+        }
+
+        if (cargasAtuais.isEmpty() && !objetivoRepository.existsById(objetivoId)) {
+            throw new RuntimeException("Objetivo não encontrado");
+        }
+
+        Map<Integer, List<Long>> idsPorCarga = new HashMap<>();
         for (int i = 0; i < miniTemaIds.size(); i++) {
             Long miniTemaId = miniTemaIds.get(i);
-            Integer novaCarga = cargas.get(i);
+            Integer cargaAtual = cargasAtuais.get(miniTemaId);
 
-            MiniTema miniTema = objetivo.getMiniTemas().stream()
-                    .filter(mt -> mt.getId().equals(miniTemaId))
-                    .findFirst()
-                    .orElseThrow(() -> new RuntimeException("Mini-tema não encontrado: " + miniTemaId));
+            if (cargaAtual == null) {
+                throw new RuntimeException("Mini-tema não encontrado: " + miniTemaId);
+            }
+            if (!cargaAtual.equals(cargas.get(i))) {
+                idsPorCarga.computeIfAbsent(cargas.get(i), carga -> new ArrayList<>()).add(miniTemaId);
+            }
+        }
 
-            miniTema.setCargaHorariaEstimada(novaCarga);
+        int alterados = 0;
+        for (Map.Entry<Integer, List<Long>> grupo : idsPorCarga.entrySet()) {
+            alterados += miniTemaRepository.atualizarCargaHoraria(objetivoId, grupo.getValue(), grupo.getKey());
         }
 
-        objetivoRepository.save(objetivo);
+        log.debug("{} de {} mini-temas alterados em {} instruções", alterados, miniTemaIds.size(), idsPorCarga.size());
+    }
+
+    public void validarCargasHorarias(List<Long> miniTemaIds, List<Integer> cargas) {
+        if (miniTemaIds.size() != cargas.size()) {
+            throw new RuntimeException("Quantidade de cargas não corresponde à de mini-temas");
+        }
+
+        Set<Long> vistos = new HashSet<>();
+        for (int i = 0; i < miniTemaIds.size(); i++) {
+            if (miniTemaIds.get(i) == null || !vistos.add(miniTemaIds.get(i))) {
+                throw new RuntimeException("Mini-tema inválido ou repetido: " + miniTemaIds.get(i));
+            }
+            if (cargas.get(i) == null || cargas.get(i) <= 0) {
+                throw new RuntimeException("Carga horária deve ser positiva: " + miniTemaIds.get(i));
+            }
+        }
     }
 
     @Transactional
@@ -111,13 +175,54 @@ public class ObjetivoService {
         objetivoRepository.save(objetivo);
     }
 
+    @Transactional(readOnly = true)
     public Objetivo buscarPorId(Long id) {
         return objetivoRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Objetivo não encontrado: " + id));
     }
 
-    public List<Objetivo> listarPorUsuario(Usuario usuario) {
-        return objetivoRepository.findByUsuarioOrderByDataCriacaoDesc(usuario);
+    public Objetivo buscarParaAtualizacao(Long id) {
+        return objetivoRepository.findParaAtualizacao(id)
+                .orElseThrow(() -> new RuntimeException("Objetivo não encontrado: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaObjetivosDTO listarPagina(Long usuarioId, ObjetivoStatus status, String cursor, Integer tamanho) {
+        int tamanhoPagina = tamanho == null
+                ? tamanhoPaginaPadrao
+                : Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO_PAGINA));
+
+        LocalDateTime dataCriacao = INICIO_PAGINACAO;
+        long id = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] partes = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                dataCriacao = LocalDateTime.parse(partes[0]);
+                id = Long.parseLong(partes[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Cursor de paginação inválido: " + cursor);
+            }
+        }
+
+        PageRequest limite = PageRequest.of(0, tamanhoPagina + 1);
+        List<ObjetivoResumoDTO> itens = status == null
+                ? objetivoRepository.findResumosPagina(usuarioId, dataCriacao, id, limite)
+                : objetivoRepository.findResumosPaginaPorStatus(usuarioId, status, dataCriacao, id, limite);
+
+        if (itens.size() <= tamanhoPagina) {
+            return new PaginaObjetivosDTO(itens, null);
+        }
+
+        List<ObjetivoResumoDTO> pagina = new ArrayList<>(itens.subList(0, tamanhoPagina));
+        ObjetivoResumoDTO ultimo = pagina.get(pagina.size() - 1);
+        String proximoCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((ultimo.getDataCriacao() + "|" + ultimo.getId()).getBytes(StandardCharsets.UTF_8));
+
+        return new PaginaObjetivosDTO(pagina, proximoCursor);
+    }
+
+    public long contarPorUsuario(Long usuarioId) {
+        return objetivoRepository.countByUsuarioId(usuarioId);
     }
 
     public int calcularHorasTotaisNecessarias(Objetivo objetivo) {
@@ -128,32 +233,36 @@ public class ObjetivoService {
     }
 
     public double calcularProgresso(Objetivo objetivo) {
-        List<Tarefa> tarefas = tarefaRepository.findByObjetivoOrderByDataAgendadaAsc(objetivo);
-
-        if (tarefas.isEmpty()) {
-            return 0.0;
-        }
+        return objetivo.getProgresso();
+    }
 
-        long tarefasConcluidas = tarefas.stream().filter(Tarefa::getConcluida).count();
-        return (tarefasConcluidas * 100.0) / tarefas.size();
+    private MiniTema novoMiniTema(Objetivo objetivo, MiniTemaDTO dto, int ordem) {
+        MiniTema miniTema = new MiniTema();
+        miniTema.setObjetivo(objetivo);
+        miniTema.setNome(dto.getNome());
+        miniTema.setDescricao(dto.getDescricao());
+        miniTema.setCargaHorariaEstimada(dto.getHorasEstimadas());
+        miniTema.setOrdem(ordem);
+        miniTema.setSugeridoPorIA(dto.getSugeridoPorIA());
+        miniTema.setRemovido(false);
+        return miniTema;
     }
 
     @Transactional
     public void excluir(Long objetivoId) {
         log.info("Excluindo objetivo {}", objetivoId);
 
-        Objetivo objetivo = objetivoRepository.findById(objetivoId)
-                .orElseThrow(() -> new RuntimeException("Objetivo não encontrado: " + objetivoId));
-
-        tarefaRepository.deleteAll(objetivo.getTarefas());
-        tarefaRepository.deleteAll(objetivo.getTarefas());
-
-        miniTemaRepository.deleteAll(objetivo.getMiniTemas());
-        miniTemaRepository.deleteAll(objetivo.getMiniTemas());
+        if (!objetivoRepository.existsById(objetivoId)) {
+            throw new RuntimeException("Objetivo não encontrado: " + objetivoId);
+        }
 
-        objetivoRepository.delete(objetivo);
-        objetivoRepository.delete(objetivo);
+        int tarefasExcluidas = tarefaRepository.excluirPorObjetivoId(objetivoId)
+                + tarefaArquivadaRepository.excluirPorObjetivoId(objetivoId);
+        int miniTemasExcluidos = miniTemaRepository.excluirPorObjetivoId(objetivoId);
+        geracaoPlanoRepository.excluirPorObjetivoId(objetivoId);
+        objetivoRepository.excluirPorId(objetivoId);
 
-        log.info("Objetivo {} excluído com sucesso", objetivoId);
+        log.info("Objetivo {} excluído com sucesso ({} tarefas, {} mini-temas)",
+                objetivoId, tarefasExcluidas, miniTemasExcluidos);
     }
 }
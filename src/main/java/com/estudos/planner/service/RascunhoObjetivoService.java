@@ -0,0 +1,223 @@
+package com.estudos.planner.service;
+
+import com.estudos.planner.dto.MiniTemaDTO;
+import com.estudos.planner.dto.RascunhoObjetivo;
+import com.estudos.planner.model.MiniTema;
+import com.estudos.planner.model.Objetivo;
+import com.estudos.planner.model.ObjetivoStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class RascunhoObjetivoService {
+
+    private static final String RASCUNHOS = RascunhoObjetivoService.class.getName() + ".RASCUNHOS";
+
+    private final ObjetivoService objetivoService;
+    private final UsuarioService usuarioService;
+    private final GeracaoPlanoService geracaoPlanoService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean memoriaHabilitada;
+    private final int maximoPorSessao;
+    private final int maximoMiniTemas;
+
+    public RascunhoObjetivoService(ObjetivoService objetivoService,
+                                   UsuarioService usuarioService,
+                                   GeracaoPlanoService geracaoPlanoService,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${planner.rascunho.memoria.habilitado:true}") boolean memoriaHabilitada,
+                                   @Value("${planner.rascunho.maximo-por-sessao:5}") int maximoPorSessao,
+                                   @Value("${planner.rascunho.mini-temas.maximo:30}") int maximoMiniTemas) {
+        this.objetivoService = objetivoService;
+        this.usuarioService = usuarioService;
+        this.geracaoPlanoService = geracaoPlanoService;
+        this.transactionTemplate = transactionTemplate;
+        this.memoriaHabilitada = memoriaHabilitada;
+        this.maximoPorSessao = maximoPorSessao;
+        this.maximoMiniTemas = maximoMiniTemas;
+    }
+
+    public Long criar(Long usuarioId, String temaPrincipal, LocalDate dataLimite) {
+        if (!memoriaHabilitada) {
+            return objetivoService.criarRascunho(usuarioService.referenciaPorId(usuarioId), temaPrincipal, dataLimite)
+                    .getId();
+        }
+
+        RascunhoObjetivo rascunho = new RascunhoObjetivo();
+        rascunho.setId(-ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE));
+        rascunho.setUsuarioId(usuarioId);
+        rascunho.setTemaPrincipal(temaPrincipal);
+        rascunho.setDataLimite(dataLimite);
+        rascunho.setDataCriacao(LocalDateTime.now());
+
+        salvar(rascunho);
+        log.info("Rascunho {} criado na sessão para usuário {}: {}", rascunho.getId(), usuarioId, temaPrincipal);
+
+        return rascunho.getId();
+    }
+
+    public Objetivo buscar(Long id) {
+        if (!emMemoria(id)) {
+            return objetivoService.buscarPorId(id);
+        }
+        return montarObjetivo(obter(id));
+    }
+
+    public void adicionarMiniTemas(Long id, List<MiniTemaDTO> miniTemas) {
+        if (miniTemas.size() > maximoMiniTemas) {
+            throw new RuntimeException("Selecione no máximo " + maximoMiniTemas + " mini-temas");
+        }
+        if (!emMemoria(id)) {
+            objetivoService.adicionarMiniTemas(id, miniTemas);
+            return;
+        }
+
+        RascunhoObjetivo rascunho = obter(id);
+        rascunho.setMiniTemas(miniTemas.stream()
+                .filter(MiniTemaDTO::getSelecionado)
+                .map(dto -> new MiniTemaDTO(dto.getNome(), dto.getDescricao(), dto.getHorasEstimadas(),
+                        true, Boolean.TRUE.equals(dto.getSugeridoPorIA())))
+                .collect(Collectors.toList()));
+        salvar(rascunho);
+    }
+
+    public void atualizarCargasHorarias(Long id, List<Long> miniTemaIds, List<Integer> cargas) {
+        if (!emMemoria(id)) {
+            objetivoService.atualizarCargasHorarias(id, miniTemaIds, cargas);
+            return;
+        }
+
+        objetivoService.validarCargasHorarias(miniTemaIds, cargas);
+
+        RascunhoObjetivo rascunho = obter(id);
+        List<MiniTemaDTO> miniTemas = rascunho.getMiniTemas();
+
+        for (Long posicao : miniTemaIds) {
+            if (posicao < 1 || posicao > miniTemas.size()) {
+                throw new RuntimeException("Mini-tema não encontrado: " + posicao);
+            }
+        }
+        for (int i = 0; i < miniTemaIds.size(); i++) {
+            miniTemas.get(miniTemaIds.get(i).intValue() - 1).setHorasEstimadas(cargas.get(i));
+        }
+
+        salvar(rascunho);
+    }
+
+    public void configurarRotina(Long id, Integer horasPorDia, String diasEstudo) {
+        if (!emMemoria(id)) {
+            objetivoService.configurarRotina(id, horasPorDia, diasEstudo);
+            return;
+        }
+
+        RascunhoObjetivo rascunho = obter(id);
+        rascunho.setHorasPorDia(horasPorDia);
+        rascunho.setDiasEstudo(diasEstudo);
+        salvar(rascunho);
+    }
+
+    public Long finalizar(Long id) {
+        if (!emMemoria(id)) {
+            geracaoPlanoService.solicitar(id);
+            return id;
+        }
+
+        RascunhoObjetivo rascunho = obter(id);
+        remover(id);
+
+        try {
+            Long objetivoId = transactionTemplate.execute(status -> {
+                Objetivo objetivo = objetivoService.persistirRascunho(
+                        usuarioService.referenciaPorId(rascunho.getUsuarioId()), rascunho);
+                geracaoPlanoService.solicitar(objetivo.getId());
+                return objetivo.getId();
+            });
+
+            log.info("Rascunho {} persistido como objetivo {}", id, objetivoId);
+            return objetivoId;
+        } catch (RuntimeException e) {
+            salvar(rascunho);
+            throw e;
+        }
+    }
+
+    private boolean emMemoria(Long id) {
+        return id != null && id < 0;
+    }
+
+    private RascunhoObjetivo obter(Long id) {
+        RascunhoObjetivo rascunho = rascunhosDaSessao().get(id);
+        if (rascunho == null) {
+            throw new RuntimeException("Rascunho expirado ou não encontrado: " + id);
+        }
+        return rascunho;
+    }
+
+    private void salvar(RascunhoObjetivo rascunho) {
+        Map<Long, RascunhoObjetivo> rascunhos = new HashMap<>(rascunhosDaSessao());
+        rascunhos.put(rascunho.getId(), rascunho);
+
+        // Abas abandonadas no meio do assistente não podem crescer a sessão serializada indefinidamente
+        while (rascunhos.size() > maximoPorSessao) {
+            RascunhoObjetivo maisAntigo = rascunhos.values().stream()
+                    .min(Comparator.comparing(RascunhoObjetivo::getDataCriacao))
+                    .orElseThrow();
+            rascunhos.remove(maisAntigo.getId());
+            log.info("Rascunho {} descartado da sessão: limite de {} rascunhos por sessão", maisAntigo.getId(), maximoPorSessao);
+        }
+        RequestContextHolder.currentRequestAttributes().setAttribute(RASCUNHOS, rascunhos, RequestAttributes.SCOPE_SESSION);
+    }
+
+    private void remover(Long id) {
+        Map<Long, RascunhoObjetivo> rascunhos = new HashMap<>(rascunhosDaSessao());
+        rascunhos.remove(id);
+        RequestContextHolder.currentRequestAttributes().setAttribute(RASCUNHOS, rascunhos, RequestAttributes.SCOPE_SESSION);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, RascunhoObjetivo> rascunhosDaSessao() {
+        Object rascunhos = RequestContextHolder.currentRequestAttributes()
+                .getAttribute(RASCUNHOS, RequestAttributes.SCOPE_SESSION);
+        return rascunhos instanceof Map<?, ?> mapa ? (Map<Long, RascunhoObjetivo>) mapa : Map.of();
+    }
+
+    private Objetivo montarObjetivo(RascunhoObjetivo rascunho) {
+        Objetivo objetivo = new Objetivo();
+        objetivo.setId(rascunho.getId());
+        objetivo.setTemaPrincipal(rascunho.getTemaPrincipal());
+        objetivo.setDataLimite(rascunho.getDataLimite());
+        objetivo.setDataCriacao(rascunho.getDataCriacao());
+        objetivo.setHorasPorDia(rascunho.getHorasPorDia());
+        objetivo.setDiasEstudo(rascunho.getDiasEstudo());
+        objetivo.setStatus(ObjetivoStatus.RASCUNHO);
+
+        long posicao = 1;
+        for (MiniTemaDTO dto : rascunho.getMiniTemas()) {
+            MiniTema miniTema = new MiniTema();
+            miniTema.setId(posicao);
+            miniTema.setNome(dto.getNome());
+            miniTema.setDescricao(dto.getDescricao());
+            miniTema.setCargaHorariaEstimada(dto.getHorasEstimadas());
+            miniTema.setOrdem((int) posicao++);
+            miniTema.setSugeridoPorIA(dto.getSugeridoPorIA());
+            miniTema.setRemovido(false);
+            objetivo.adicionarMiniTema(miniTema);
+        }
+
+        return objetivo;
+    }
+}
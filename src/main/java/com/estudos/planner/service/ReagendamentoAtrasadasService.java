@@ -0,0 +1,163 @@
+package com.estudos.planner.service;
+
+import com.estudos.planner.model.Objetivo;
+import com.estudos.planner.repository.ObjetivoRepository;
+import com.estudos.planner.repository.TarefaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReagendamentoAtrasadasService {
+
+    private final ObjetivoRepository objetivoRepository;
+    private final TarefaRepository tarefaRepository;
+    private final CronogramaService cronogramaService;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricasService metricasService;
+
+    private final AtomicLong objetivosProcessados = new AtomicLong();
+    private final AtomicLong tarefasReagendadas = new AtomicLong();
+    private final AtomicLong tarefasSemCapacidade = new AtomicLong();
+    private final AtomicLong duracaoUltimaExecucaoMs = new AtomicLong();
+    private final AtomicReference<LocalDateTime> ultimaExecucao = new AtomicReference<>();
+
+    @Value("${planner.rollover.lote:200}")
+    private int tamanhoLote;
+
+    @Value("${planner.rollover.limite-minutos:30}")
+    private long limiteMinutos;
+
+    @Scheduled(cron = "${planner.rollover.cron:0 0 2 * * *}")
+    public void reagendarAtrasadas() {
+        LocalDate hoje = LocalDate.now();
+        long inicio = System.currentTimeMillis();
+        long prazo = inicio + Duration.ofMinutes(limiteMinutos).toMillis();
+
+        log.info("Iniciando reagendamento de tarefas atrasadas");
+
+        long ultimoId = 0L;
+        int objetivos = 0;
+        int reagendadas = 0;
+
+        while (System.currentTimeMillis() < prazo) {
+            List<Long> ids = tarefaRepository.findObjetivosComAtrasadas(hoje, ultimoId, PageRequest.of(0, tamanhoLote));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            for (Long objetivoId : ids) {
+                try {
+                    Integer movidas = transactionTemplate.execute(status -> reagendarObjetivo(objetivoId, hoje));
+                    int movidasObjetivo = movidas != null ? movidas : 0;
+                    metricasService.registrarTarefasReagendadas("rollover", movidasObjetivo);
+                    reagendadas += movidasObjetivo;
+                    objetivos++;
+                } catch (Exception e) {
+                    log.error("Erro ao reagendar tarefas atrasadas do objetivo {}", objetivoId, e);
+                }
+            }
+
+            ultimoId = ids.get(ids.size() - 1);
+        }
+
+        if (System.currentTimeMillis() >= prazo) {
+            log.warn("Reagendamento interrompido após {} minutos; restante fica para a próxima execução", limiteMinutos);
+        }
+
+        objetivosProcessados.addAndGet(objetivos);
+        tarefasReagendadas.addAndGet(reagendadas);
+        duracaoUltimaExecucaoMs.set(System.currentTimeMillis() - inicio);
+        ultimaExecucao.set(LocalDateTime.now());
+
+        log.info("Reagendamento concluído: {} objetivos, {} tarefas reagendadas em {} ms",
+                objetivos, reagendadas, duracaoUltimaExecucaoMs.get());
+    }
+
+    private int reagendarObjetivo(Long objetivoId, LocalDate hoje) {
+        Objetivo objetivo = objetivoRepository.findById(objetivoId).orElse(null);
+        if (objetivo == null || objetivo.getHorasPorDia() == null) {
+            return 0;
+        }
+
+        List<DayOfWeek> diasPermitidos = cronogramaService.parsearDiasEstudo(objetivo.getDiasEstudo());
+        if (diasPermitidos.isEmpty()) {
+            return 0;
+        }
+
+        Map<LocalDate, Long> cargaPorData = new HashMap<>();
+        for (Object[] linha : tarefaRepository.sumDuracaoPorDataAPartirDe(objetivoId, hoje)) {
+            cargaPorData.put((LocalDate) linha[0], ((Number) linha[1]).longValue());
+        }
+
+        long capacidadeDiaria = objetivo.getHorasPorDia() * 60L;
+        Map<LocalDate, List<Long>> novasDatas = new LinkedHashMap<>();
+        LocalDate data = hoje;
+        int semCapacidade = 0;
+
+        for (Object[] atrasada : tarefaRepository.findAtrasadasParaReagendamento(objetivoId, hoje)) {
+            Long tarefaId = (Long) atrasada[0];
+            int duracao = (Integer) atrasada[1];
+
+            while (!data.isAfter(objetivo.getDataLimite())) {
+                long carga = cargaPorData.getOrDefault(data, 0L);
+                if (diasPermitidos.contains(data.getDayOfWeek())
+                        && (carga + duracao <= capacidadeDiaria || carga == 0)) {
+                    break;
+                }
+                data = data.plusDays(1);
+            }
+
+            if (data.isAfter(objetivo.getDataLimite())) {
+                semCapacidade++;
+                continue;
+            }
+
+            cargaPorData.merge(data, (long) duracao, Long::sum);
+            novasDatas.computeIfAbsent(data, d -> new ArrayList<>()).add(tarefaId);
+        }
+
+        novasDatas.forEach((novaData, ids) -> tarefaRepository.reagendarEmLote(ids, novaData));
+
+        if (semCapacidade > 0) {
+            tarefasSemCapacidade.addAndGet(semCapacidade);
+            log.warn("Objetivo {}: {} tarefas atrasadas sem capacidade até a data limite", objetivoId, semCapacidade);
+        }
+
+        return novasDatas.values().stream().mapToInt(List::size).sum();
+    }
+
+    public long getObjetivosProcessados() {
+        return objetivosProcessados.get();
+    }
+
+    public long getTarefasReagendadas() {
+        return tarefasReagendadas.get();
+    }
+
+    public long getTarefasSemCapacidade() {
+        return tarefasSemCapacidade.get();
+    }
+
+    public long getDuracaoUltimaExecucaoMs() {
+        return duracaoUltimaExecucaoMs.get();
+    }
+
+    public LocalDateTime getUltimaExecucao() {
+        return ultimaExecucao.get();
+    }
+}
@@ -0,0 +1,46 @@
+package com.estudos.planner.service;
+
+import com.estudos.planner.repository.ObjetivoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReconciliacaoProgressoService {
+
+    private final ObjetivoRepository objetivoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${planner.progresso.reconciliacao.lote:500}")
+    private int tamanhoLote;
+
+    @Scheduled(cron = "${planner.progresso.reconciliacao.cron:0 30 3 * * *}")
+    public void reconciliar() {
+        log.info("Iniciando reconciliação dos contadores de progresso");
+
+        long ultimoId = 0L;
+        int objetivosProcessados = 0;
+
+        while (true) {
+            List<Long> ids = objetivoRepository.findIdsApos(ultimoId, PageRequest.of(0, tamanhoLote));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> objetivoRepository.reconciliarProgresso(ids));
+
+            objetivosProcessados += ids.size();
+            ultimoId = ids.get(ids.size() - 1);
+        }
+
+        log.info("Reconciliação concluída: {} objetivos verificados", objetivosProcessados);
+    }
+}
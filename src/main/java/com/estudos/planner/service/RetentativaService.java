@@ -0,0 +1,57 @@
+package com.estudos.planner.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RetentativaService {
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${planner.concorrencia.tentativas:3}")
+    private int maxTentativas;
+
+    public <T> T executar(String operacao, Supplier<T> acao) {
+        int tentativa = 1;
+
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> acao.get());
+            } catch (ConcurrencyFailureException e) {
+                if (tentativa >= maxTentativas) {
+                    log.warn("Conflito de concorrência em {} persistiu após {} tentativas", operacao, tentativa);
+                    throw e;
+                }
+
+                log.debug("Conflito de concorrência em {} (tentativa {}), repetindo", operacao, tentativa);
+                aguardar(tentativa);
+                tentativa++;
+            }
+        }
+    }
+
+    public void executar(String operacao, Runnable acao) {
+        executar(operacao, () -> {
+            acao.run();
+            return null;
+        });
+    }
+
+    private void aguardar(int tentativa) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(10, 50) * tentativa);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Retentativa interrompida", e);
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.estudos.planner.service;
 
+import com.estudos.planner.dto.OperacaoTarefaDTO;
+import com.estudos.planner.dto.ResultadoOperacaoTarefaDTO;
 import com.estudos.planner.model.Tarefa;
+import com.estudos.planner.model.TarefaArquivada;
+import com.estudos.planner.repository.ObjetivoRepository;
+import com.estudos.planner.repository.TarefaArquivadaRepository;
 import com.estudos.planner.repository.TarefaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,7 +13,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -16,41 +24,77 @@ import java.util.List;
 public class TarefaService {
 
     private final TarefaRepository tarefaRepository;
+    private final TarefaArquivadaRepository tarefaArquivadaRepository;
+    private final ObjetivoRepository objetivoRepository;
+    private final RetentativaService retentativaService;
+    private final MetricasService metricasService;
 
+    @Transactional(readOnly = true)
     public List<Tarefa> listarPorPeriodo(Long usuarioId, LocalDate inicio, LocalDate fim) {
-        return tarefaRepository.findByUsuarioIdAndPeriodo(usuarioId, inicio, fim);
+        List<Tarefa> tarefas = new ArrayList<>(tarefaRepository.findByUsuarioIdAndPeriodo(usuarioId, inicio, fim));
+
+        List<TarefaArquivada> arquivadas = tarefaArquivadaRepository.findByUsuarioIdAndPeriodo(usuarioId, inicio, fim);
+        if (!arquivadas.isEmpty()) {
+            arquivadas.forEach(arquivada -> tarefas.add(arquivada.paraTarefa()));
+            tarefas.sort(Comparator.comparing(Tarefa::getDataAgendada));
+        }
+
+        return tarefas;
     }
 
+    @Transactional(readOnly = true)
     public List<Tarefa> listarAtrasadas(Long usuarioId) {
         return tarefaRepository.findTarefasAtrasadas(usuarioId, LocalDate.now());
     }
 
-    @Transactional
     public void concluir(Long tarefaId) {
         log.info("Marcando tarefa {} como concluída", tarefaId);
+        if (retentativaService.executar("concluir tarefa " + tarefaId, () -> aplicarConclusao(tarefaId))) {
+            metricasService.registrarTarefasConcluidas("individual", 1);
+        }
+    }
+
+    public void desmarcarConclusao(Long tarefaId) {
+        log.info("Desmarcando conclusão da tarefa {}", tarefaId);
+        retentativaService.executar("desmarcar tarefa " + tarefaId, () -> aplicarDesmarcacao(tarefaId));
+    }
 
+    public void reagendar(Long tarefaId, LocalDate novaData) {
+        log.info("Reagendando tarefa {} para {}", tarefaId, novaData);
+        retentativaService.executar("reagendar tarefa " + tarefaId, () -> aplicarReagendamento(tarefaId, novaData));
+        metricasService.registrarTarefasReagendadas("individual", 1);
+    }
+
+    private boolean aplicarConclusao(Long tarefaId) {
         Tarefa tarefa = tarefaRepository.findById(tarefaId)
                 .orElseThrow(() -> new RuntimeException("Tarefa não encontrada: " + tarefaId));
 
+        if (tarefa.getConcluida()) {
+            log.debug("Tarefa {} já estava concluída", tarefaId);
+            return false;
+        }
+
         tarefa.concluir();
         tarefaRepository.save(tarefa);
+        objetivoRepository.ajustarProgresso(tarefa.getObjetivo().getId(), 1, tarefa.getDuracao());
+        return true;
     }
 
-    @Transactional
-    public void desmarcarConclusao(Long tarefaId) {
-        log.info("Desmarcando conclusão da tarefa {}", tarefaId);
-
+    private void aplicarDesmarcacao(Long tarefaId) {
         Tarefa tarefa = tarefaRepository.findById(tarefaId)
                 .orElseThrow(() -> new RuntimeException("Tarefa não encontrada: " + tarefaId));
 
+        if (!tarefa.getConcluida()) {
+            log.debug("Tarefa {} já estava pendente", tarefaId);
+            return;
+        }
+
         tarefa.desmarcarConclusao();
         tarefaRepository.save(tarefa);
+        objetivoRepository.ajustarProgresso(tarefa.getObjetivo().getId(), -1, -tarefa.getDuracao());
     }
 
-    @Transactional
-    public void reagendar(Long tarefaId, LocalDate novaData) {
-        log.info("Reagendando tarefa {} para {}", tarefaId, novaData);
-
+    private void aplicarReagendamento(Long tarefaId, LocalDate novaData) {
         Tarefa tarefa = tarefaRepository.findById(tarefaId)
                 .orElseThrow(() -> new RuntimeException("Tarefa não encontrada: " + tarefaId));
 
@@ -58,6 +102,104 @@ public class TarefaService {
         tarefaRepository.save(tarefa);
     }
 
+    public List<ResultadoOperacaoTarefaDTO> executarLote(Long usuarioId, List<OperacaoTarefaDTO> operacoes) {
+        log.info("Executando lote de {} operações para usuário {}", operacoes.size(), usuarioId);
+        int[] contagens = new int[2];
+        List<ResultadoOperacaoTarefaDTO> resultados = retentativaService.executar(
+                "lote de tarefas do usuário " + usuarioId, () -> aplicarLote(usuarioId, operacoes, contagens));
+
+        metricasService.registrarTarefasConcluidas("lote", contagens[0]);
+        metricasService.registrarTarefasReagendadas("lote", contagens[1]);
+        return resultados;
+    }
+
+    private List<ResultadoOperacaoTarefaDTO> aplicarLote(Long usuarioId, List<OperacaoTarefaDTO> operacoes,
+                                                         int[] contagens) {
+        ResultadoOperacaoTarefaDTO[] resultados = new ResultadoOperacaoTarefaDTO[operacoes.size()];
+        Map<Long, Integer> indicePorTarefa = new LinkedHashMap<>();
+
+        for (int i = 0; i < operacoes.size(); i++) {
+            OperacaoTarefaDTO operacao = operacoes.get(i);
+            Long tarefaId = operacao.getTarefaId();
+
+            if (tarefaId == null || operacao.getOperacao() == null) {
+                resultados[i] = ResultadoOperacaoTarefaDTO.erro(tarefaId, "Operação inválida");
+            } else if (operacao.getOperacao() == OperacaoTarefaDTO.Tipo.REAGENDAR && operacao.getNovaData() == null) {
+                resultados[i] = ResultadoOperacaoTarefaDTO.erro(tarefaId, "Nova data é obrigatória");
+            } else if (indicePorTarefa.containsKey(tarefaId)) {
+                resultados[i] = ResultadoOperacaoTarefaDTO.erro(tarefaId, "Tarefa repetida no lote");
+            } else {
+                indicePorTarefa.put(tarefaId, i);
+            }
+        }
+
+        Map<Long, Tarefa> tarefas = indicePorTarefa.isEmpty()
+                ? Map.of()
+                : tarefaRepository.findParaAtualizacaoEmLote(indicePorTarefa.keySet(), usuarioId).stream()
+                        .collect(Collectors.toMap(Tarefa::getId, Function.identity()));
+
+        List<Long> concluir = new ArrayList<>();
+        List<Long> desmarcar = new ArrayList<>();
+        Map<LocalDate, List<Long>> reagendar = new HashMap<>();
+        Map<Long, long[]> progressoPorObjetivo = new HashMap<>();
+
+        for (Map.Entry<Long, Integer> entrada : indicePorTarefa.entrySet()) {
+            Long tarefaId = entrada.getKey();
+            int indice = entrada.getValue();
+            Tarefa tarefa = tarefas.get(tarefaId);
+
+            if (tarefa == null) {
+                resultados[indice] = ResultadoOperacaoTarefaDTO.erro(tarefaId, "Tarefa não encontrada");
+                continue;
+            }
+
+            OperacaoTarefaDTO operacao = operacoes.get(indice);
+            switch (operacao.getOperacao()) {
+                case CONCLUIR -> {
+                    if (!tarefa.getConcluida()) {
+                        concluir.add(tarefaId);
+                        acumularProgresso(progressoPorObjetivo, tarefa, 1);
+                    }
+                }
+                case DESMARCAR -> {
+                    if (tarefa.getConcluida()) {
+                        desmarcar.add(tarefaId);
+                        acumularProgresso(progressoPorObjetivo, tarefa, -1);
+                    }
+                }
+                case REAGENDAR -> reagendar.computeIfAbsent(operacao.getNovaData(), data -> new ArrayList<>())
+                        .add(tarefaId);
+            }
+
+            resultados[indice] = ResultadoOperacaoTarefaDTO.ok(tarefaId);
+        }
+
+        if (!concluir.isEmpty()) {
+            tarefaRepository.concluirEmLote(concluir, LocalDateTime.now());
+        }
+        if (!desmarcar.isEmpty()) {
+            tarefaRepository.desmarcarEmLote(desmarcar);
+        }
+        reagendar.forEach((novaData, ids) -> tarefaRepository.reagendarEmLote(ids, novaData));
+        progressoPorObjetivo.forEach((objetivoId, delta) ->
+                objetivoRepository.ajustarProgresso(objetivoId, (int) delta[0], delta[1]));
+
+        contagens[0] = concluir.size();
+        contagens[1] = reagendar.values().stream().mapToInt(List::size).sum();
+
+        log.info("Lote aplicado: {} concluídas, {} desmarcadas, {} reagendadas",
+                concluir.size(), desmarcar.size(), contagens[1]);
+
+        return Arrays.asList(resultados);
+    }
+
+    private void acumularProgresso(Map<Long, long[]> progressoPorObjetivo, Tarefa tarefa, int sinal) {
+        long[] delta = progressoPorObjetivo.computeIfAbsent(tarefa.getObjetivo().getId(), id -> new long[2]);
+        delta[0] += sinal;
+        delta[1] += (long) sinal * tarefa.getDuracao();
+    }
+
+    @Transactional(readOnly = true)
     public Tarefa buscarPorId(Long id) {
         return tarefaRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tarefa não encontrada: " + id));
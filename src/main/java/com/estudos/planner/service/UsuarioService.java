@@ -18,7 +18,6 @@ public class UsuarioService {
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
 
-    @Transactional
     public Usuario cadastrar(String nome, String email, String senha) {
         log.info("Cadastrando novo usuário: {}", email);
 
@@ -38,14 +37,21 @@ public class UsuarioService {
         return usuarioSalvo;
     }
 
+    @Transactional(readOnly = true)
     public Optional<Usuario> buscarPorEmail(String email) {
         return usuarioRepository.findByEmail(email);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Usuario> buscarPorId(Long id) {
         return usuarioRepository.findById(id);
     }
 
+    public Usuario referenciaPorId(Long id) {
+        return usuarioRepository.getReferenceById(id);
+    }
+
+    @Transactional(readOnly = true)
     public boolean emailJaCadastrado(String email) {
         return usuarioRepository.existsByEmail(email);
     }
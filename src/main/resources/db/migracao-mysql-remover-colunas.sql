@@ -0,0 +1,23 @@
+-- Remove as colunas titulo/descricao das tarefas, que esta versão não lê nem grava mais. Rode uma única vez,
+-- depois de migracao-mysql.sql e só quando o último nó da versão anterior tiver saído do ar (em um deploy
+-- gradual os nós antigos ainda gravam titulo):
+--   mysql -u root -p planner_estudos < src/main/resources/db/migracao-mysql-remover-colunas.sql
+
+-- 1. Tarefas criadas pelos nós antigos durante o deploy (mesma conversão da seção 5 de migracao-mysql.sql)
+UPDATE tarefas SET
+    tipo_sessao = IF(titulo REGEXP ' - Fundamentos \\(Parte [0-9]+\\)$', 'FUNDAMENTOS', 'APROFUNDAMENTO'),
+    parte = CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(titulo, '(Parte ', -1), ')', 1) AS UNSIGNED)
+WHERE tipo_sessao IS NULL
+  AND titulo REGEXP ' - (Fundamentos|Aprofundamento) \\(Parte [0-9]+\\)$';
+
+UPDATE tarefas SET tipo_sessao = CASE
+        WHEN titulo LIKE '% - Revisão e Consolidação' THEN 'REVISAO'
+        WHEN descricao = 'Estudo dos conceitos fundamentais e introdução ao tema' THEN 'FUNDAMENTOS'
+        WHEN descricao = 'Estudo detalhado e prática do conteúdo' THEN 'APROFUNDAMENTO'
+        ELSE 'REVISAO'
+    END
+WHERE tipo_sessao IS NULL;
+
+-- 2. Colunas antigas (OPTIMIZE TABLE devolve o espaço ao sistema de arquivos)
+ALTER TABLE tarefas DROP COLUMN titulo, DROP COLUMN descricao;
+OPTIMIZE TABLE tarefas;
@@ -0,0 +1,106 @@
+-- Atualiza um banco MySQL criado pela versão inicial (tabelas usuarios, objetivos, mini_temas e tarefas)
+-- para o esquema que o perfil prod valida (ddl-auto=validate). Rode uma única vez, com a aplicação parada,
+-- na ordem abaixo:
+--   mysql -u root -p planner_estudos < src/main/resources/db/migracao-mysql.sql
+-- As colunas antigas titulo/descricao das tarefas só são removidas por migracao-mysql-remover-colunas.sql,
+-- depois que nenhum nó da versão anterior estiver no ar.
+
+-- 1. Contadores de progresso do objetivo, preenchidos a partir das tarefas existentes
+ALTER TABLE objetivos ADD COLUMN total_tarefas INT NOT NULL DEFAULT 0;
+ALTER TABLE objetivos ADD COLUMN tarefas_concluidas INT NOT NULL DEFAULT 0;
+ALTER TABLE objetivos ADD COLUMN minutos_concluidos BIGINT NOT NULL DEFAULT 0;
+
+UPDATE objetivos o SET
+    total_tarefas = (SELECT COUNT(*) FROM tarefas t WHERE t.objetivo_id = o.id),
+    tarefas_concluidas = (SELECT COUNT(*) FROM tarefas t WHERE t.objetivo_id = o.id AND t.concluida = TRUE),
+    minutos_concluidos = (SELECT COALESCE(SUM(t.duracao), 0) FROM tarefas t
+                          WHERE t.objetivo_id = o.id AND t.concluida = TRUE);
+
+-- 2. Geração do plano em segundo plano (etapa 4 do assistente)
+CREATE TABLE geracoes_plano (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    objetivo_id BIGINT NOT NULL,
+    status ENUM ('PENDENTE','EM_EXECUCAO','CONCLUIDO','FALHOU') NOT NULL,
+    tentativas INT NOT NULL,
+    tarefas_criadas INT,
+    mensagem_erro VARCHAR(500),
+    data_criacao DATETIME(6) NOT NULL,
+    data_atualizacao DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_geracoes_plano_objetivo UNIQUE (objetivo_id)
+) ENGINE=InnoDB;
+
+-- 3. Versão para o controle de concorrência otimista
+ALTER TABLE objetivos ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tarefas ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
+
+-- 4. Índice da limpeza de rascunhos abandonados
+CREATE INDEX idx_objetivos_status_criacao ON objetivos (status, data_criacao);
+
+-- 5. Tipo de sessão e parte das tarefas, convertidos do título/descrição gerados pela versão inicial
+ALTER TABLE tarefas ADD COLUMN tipo_sessao ENUM ('FUNDAMENTOS','APROFUNDAMENTO','REVISAO') NULL;
+ALTER TABLE tarefas ADD COLUMN parte INT NULL;
+
+UPDATE tarefas SET
+    tipo_sessao = IF(titulo REGEXP ' - Fundamentos \\(Parte [0-9]+\\)$', 'FUNDAMENTOS', 'APROFUNDAMENTO'),
+    parte = CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(titulo, '(Parte ', -1), ')', 1) AS UNSIGNED)
+WHERE tipo_sessao IS NULL
+  AND titulo REGEXP ' - (Fundamentos|Aprofundamento) \\(Parte [0-9]+\\)$';
+
+UPDATE tarefas SET tipo_sessao = CASE
+        WHEN titulo LIKE '% - Revisão e Consolidação' THEN 'REVISAO'
+        WHEN descricao = 'Estudo dos conceitos fundamentais e introdução ao tema' THEN 'FUNDAMENTOS'
+        WHEN descricao = 'Estudo detalhado e prática do conteúdo' THEN 'APROFUNDAMENTO'
+        ELSE 'REVISAO'
+    END
+WHERE tipo_sessao IS NULL;
+
+-- 6. Arquivo de tarefas antigas e de objetivos encerrados
+CREATE TABLE tarefas_arquivo (
+    id BIGINT NOT NULL,
+    objetivo_id BIGINT NOT NULL,
+    mini_tema_id BIGINT NOT NULL,
+    data_agendada DATE NOT NULL,
+    duracao INT NOT NULL,
+    concluida BIT NOT NULL,
+    data_conclusao DATETIME(6),
+    observacoes TEXT,
+    tipo_sessao ENUM ('FUNDAMENTOS','APROFUNDAMENTO','REVISAO'),
+    parte INT,
+    data_arquivamento DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tarefas_arquivo_objetivo FOREIGN KEY (objetivo_id) REFERENCES objetivos (id),
+    CONSTRAINT fk_tarefas_arquivo_mini_tema FOREIGN KEY (mini_tema_id) REFERENCES mini_temas (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_tarefas_arquivo_objetivo_data ON tarefas_arquivo (objetivo_id, data_agendada);
+
+-- 7. Índices da paginação por cursor dos objetivos
+CREATE INDEX idx_objetivos_usuario_criacao ON objetivos (usuario_id, data_criacao, id);
+CREATE INDEX idx_objetivos_usuario_status_criacao ON objetivos (usuario_id, status, data_criacao, id);
+
+-- 8. Sessões HTTP compartilhadas (schema-mysql.sql do spring-session-jdbc; MEDIUMBLOB porque os rascunhos
+--    do assistente ficam na sessão e podem passar dos 64 KB de um BLOB)
+CREATE TABLE SPRING_SESSION (
+    PRIMARY_ID CHAR(36) NOT NULL,
+    SESSION_ID CHAR(36) NOT NULL,
+    CREATION_TIME BIGINT NOT NULL,
+    LAST_ACCESS_TIME BIGINT NOT NULL,
+    MAX_INACTIVE_INTERVAL INT NOT NULL,
+    EXPIRY_TIME BIGINT NOT NULL,
+    PRINCIPAL_NAME VARCHAR(100),
+    CONSTRAINT SPRING_SESSION_PK PRIMARY KEY (PRIMARY_ID)
+) ENGINE=InnoDB;
+
+CREATE UNIQUE INDEX SPRING_SESSION_IX1 ON SPRING_SESSION (SESSION_ID);
+CREATE INDEX SPRING_SESSION_IX2 ON SPRING_SESSION (EXPIRY_TIME);
+CREATE INDEX SPRING_SESSION_IX3 ON SPRING_SESSION (PRINCIPAL_NAME);
+
+CREATE TABLE SPRING_SESSION_ATTRIBUTES (
+    SESSION_PRIMARY_ID CHAR(36) NOT NULL,
+    ATTRIBUTE_NAME VARCHAR(200) NOT NULL,
+    ATTRIBUTE_BYTES MEDIUMBLOB NOT NULL,
+    CONSTRAINT SPRING_SESSION_ATTRIBUTES_PK PRIMARY KEY (SESSION_PRIMARY_ID, ATTRIBUTE_NAME),
+    CONSTRAINT SPRING_SESSION_ATTRIBUTES_FK FOREIGN KEY (SESSION_PRIMARY_ID)
+        REFERENCES SPRING_SESSION (PRIMARY_ID) ON DELETE CASCADE
+) ENGINE=InnoDB;
@@ -0,0 +1,72 @@
+package com.estudos.planner;
+
+import com.estudos.planner.dto.MiniTemaDTO;
+import com.estudos.planner.dto.UsuarioAutenticado;
+import com.estudos.planner.model.Objetivo;
+import com.estudos.planner.model.Usuario;
+import com.estudos.planner.service.CronogramaService;
+import com.estudos.planner.service.ObjetivoService;
+import com.estudos.planner.service.UsuarioService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+
+@SpringBootTest
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@ActiveProfiles({"h2", "gemini-stub"})
+public abstract class PlannerIntegracaoTest {
+
+    protected static final String TODOS_OS_DIAS = "SEG,TER,QUA,QUI,SEX,SAB,DOM";
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected UsuarioService usuarioService;
+
+    @Autowired
+    protected ObjetivoService objetivoService;
+
+    @Autowired
+    protected CronogramaService cronogramaService;
+
+    @Autowired
+    protected TransactionTemplate transactionTemplate;
+
+    protected Usuario novoUsuario() {
+        return usuarioService.cadastrar("Teste", "teste-" + UUID.randomUUID() + "@planner.com", "123456");
+    }
+
+    protected RequestPostProcessor autenticado(Usuario usuario) {
+        return user(new UsuarioAutenticado(usuario.getId(), usuario.getNome(), usuario.getEmail(), null));
+    }
+
+    protected Long criarObjetivoComPlano(Usuario usuario, String tema) {
+        Long objetivoId = objetivoService.criarRascunho(usuario, tema, LocalDate.now().plusDays(30)).getId();
+        objetivoService.adicionarMiniTemas(objetivoId, List.of(
+                new MiniTemaDTO("Fundamentos de " + tema, "Teste", 5, true, false),
+                new MiniTemaDTO("Prática de " + tema, "Teste", 3, true, false)));
+        objetivoService.configurarRotina(objetivoId, 2, TODOS_OS_DIAS);
+        replanejar(objetivoId);
+        objetivoService.finalizarObjetivo(objetivoId);
+        return objetivoId;
+    }
+
+    protected int replanejar(Long objetivoId) {
+        return transactionTemplate.execute(status -> {
+            Objetivo objetivo = objetivoService.buscarParaAtualizacao(objetivoId);
+            return cronogramaService.distribuirCargaHoraria(objetivo);
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package com.estudos.planner.config;
+
+import com.estudos.planner.PlannerIntegracaoTest;
+import com.estudos.planner.dto.MiniTemaDTO;
+import com.estudos.planner.model.MiniTema;
+import com.estudos.planner.model.Objetivo;
+import com.estudos.planner.model.Tarefa;
+import com.estudos.planner.model.Usuario;
+import com.estudos.planner.repository.TarefaRepository;
+import com.estudos.planner.service.TarefaService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheConfigTest extends PlannerIntegracaoTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Test
+    void segundaLeituraDosMiniTemasVemDoCache() {
+        Long objetivoId = criarObjetivoComPlano(novoUsuario(), "Cache");
+        double acertosAntes = acertos("objetivos.miniTemas");
+
+        RegistroSql primeira = ContadorSql.medir(() -> cargas(objetivoId));
+        RegistroSql segunda = ContadorSql.medir(() -> cargas(objetivoId));
+
+        assertThat(primeira.getTotal()).isEqualTo(2);
+        assertThat(segunda.getTotal()).isEqualTo(1);
+        assertThat(acertos("objetivos.miniTemas")).isGreaterThan(acertosAntes);
+    }
+
+    @Test
+    void alteracoesDoRascunhoAparecemNaLeituraSeguinte() {
+        Usuario usuario = novoUsuario();
+        Long objetivoId = objetivoService.criarRascunho(usuario, "Rascunho em cache", LocalDate.now().plusDays(30)).getId();
+
+        objetivoService.adicionarMiniTemas(objetivoId, List.of(
+                new MiniTemaDTO("A", "", 5, true, false),
+                new MiniTemaDTO("B", "", 3, true, false)));
+        assertThat(cargas(objetivoId)).containsExactly(5, 3);
+
+        List<Long> ids = idsMiniTemas(objetivoId);
+        objetivoService.atualizarCargasHorarias(objetivoId, ids, List.of(7, 3));
+        assertThat(cargas(objetivoId)).containsExactly(7, 3);
+
+        objetivoService.adicionarMiniTemas(objetivoId, List.of(new MiniTemaDTO("C", "", 4, true, false)));
+        assertThat(cargas(objetivoId)).containsExactly(4);
+    }
+
+    @Test
+    void miniTemasNaoMudamDepoisDeConcluirOAssistente() {
+        Long objetivoId = criarObjetivoComPlano(novoUsuario(), "Concluído");
+        List<Long> ids = idsMiniTemas(objetivoId);
+
+        assertThatThrownBy(() -> objetivoService.adicionarMiniTemas(objetivoId,
+                List.of(new MiniTemaDTO("Novo", "", 1, true, false))))
+                .hasMessageContaining("rascunhos");
+        assertThatThrownBy(() -> objetivoService.atualizarCargasHorarias(objetivoId, ids, List.of(1, 1)))
+                .hasMessageStartingWith("Mini-tema não encontrado");
+        assertThat(cargas(objetivoId)).containsExactly(5, 3);
+    }
+
+    @Test
+    void conclusaoDeTarefaEExclusaoAparecemNaLeituraSeguinte() {
+        Long objetivoId = criarObjetivoComPlano(novoUsuario(), "Progresso");
+        cargas(objetivoId);
+
+        Tarefa tarefa = tarefaRepository.findByObjetivoIdOrderByDataAgendadaAsc(objetivoId).get(0);
+        tarefaService.concluir(tarefa.getId());
+
+        Objetivo objetivo = objetivoService.buscarPorId(objetivoId);
+        assertThat(objetivo.getTarefasConcluidas()).isEqualTo(1);
+        assertThat(objetivo.getMinutosConcluidos()).isEqualTo((long) tarefa.getDuracao());
+
+        // O UPDATE em massa de ajustarProgresso só invalida a região de objetivos, que não é cacheada
+        double acertosAntes = acertos("objetivos.miniTemas");
+        assertThat(cargas(objetivoId)).containsExactly(5, 3);
+        assertThat(acertos("objetivos.miniTemas")).isGreaterThan(acertosAntes);
+
+        objetivoService.excluir(objetivoId);
+        assertThatThrownBy(() -> cargas(objetivoId)).hasMessageContaining("não encontrado");
+    }
+
+    private List<Integer> cargas(Long objetivoId) {
+        return transactionTemplate.execute(status -> objetivoService.buscarPorId(objetivoId).getMiniTemas().stream()
+                .map(MiniTema::getCargaHorariaEstimada)
+                .toList());
+    }
+
+    private List<Long> idsMiniTemas(Long objetivoId) {
+        return transactionTemplate.execute(status -> objetivoService.buscarPorId(objetivoId).getMiniTemas().stream()
+                .map(MiniTema::getId)
+                .toList());
+    }
+
+    private double acertos(String cache) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", "hit").functionCounter().count();
+    }
+}
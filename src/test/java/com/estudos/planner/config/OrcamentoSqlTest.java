@@ -0,0 +1,120 @@
+package com.estudos.planner.config;
+
+import com.estudos.planner.PlannerIntegracaoTest;
+import com.estudos.planner.model.MiniTema;
+import com.estudos.planner.model.Usuario;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+class OrcamentoSqlTest extends PlannerIntegracaoTest {
+
+    private Usuario usuario;
+    private Cookie cookieSessao;
+
+    @BeforeEach
+    void preparar() {
+        usuario = novoUsuario();
+        for (int i = 1; i <= 3; i++) {
+            criarObjetivoComPlano(usuario, "Tema " + i);
+        }
+        cookieSessao = null;
+    }
+
+    @Test
+    void dashboardDentroDoOrcamento() {
+        executar(get("/dashboard"))
+                .verificarOrcamento(2)
+                .verificarSemRepeticao(2);
+    }
+
+    @Test
+    void tarefasDoCalendarioDentroDoOrcamento() {
+        executar(get("/calendario/tarefas"))
+                .verificarOrcamento(2)
+                .verificarSemRepeticao(2);
+    }
+
+    // A partir da etapa 2 o rascunho vem da sessão: o SessionRepositoryFilter busca a sessão duas vezes e
+    // confere o LAST_ACCESS_TIME a cada busca e ao salvar, por isso cada etapa aceita até 3 repetições.
+    @Test
+    void etapasDoAssistenteDentroDoOrcamento() {
+        MvcResult[] resultado = new MvcResult[1];
+
+        executar(post("/objetivos/novo/etapa1")
+                .param("temaPrincipal", "Java")
+                .param("dataLimite", LocalDate.now().plusDays(60).toString()), resultado)
+                .verificarOrcamento(2).verificarSemRepeticao(2);
+        String etapa2 = resultado[0].getResponse().getRedirectedUrl();
+        assertThat(etapa2).startsWith("/objetivos/novo/etapa2/");
+        String rascunhoId = etapa2.substring(etapa2.lastIndexOf('/') + 1);
+
+        executar(get(etapa2)).verificarOrcamento(5).verificarSemRepeticao(4);
+
+        executar(post(etapa2)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"nome\":\"A\",\"descricao\":\"d\",\"horasEstimadas\":5,\"selecionado\":true},"
+                        + "{\"nome\":\"B\",\"descricao\":\"d\",\"horasEstimadas\":4,\"selecionado\":true},"
+                        + "{\"nome\":\"C\",\"descricao\":\"d\",\"horasEstimadas\":3,\"selecionado\":true}]"), resultado)
+                .verificarOrcamento(5).verificarSemRepeticao(4);
+        assertThat(resultado[0].getResponse().getRedirectedUrl()).isEqualTo("/objetivos/novo/etapa3/" + rascunhoId);
+
+        executar(get("/objetivos/novo/etapa3/" + rascunhoId), resultado)
+                .verificarOrcamento(5).verificarSemRepeticao(4);
+        @SuppressWarnings("unchecked")
+        List<MiniTema> miniTemas = (List<MiniTema>) resultado[0].getModelAndView().getModel().get("miniTemas");
+        assertThat(miniTemas.size()).isEqualTo(3);
+
+        MockHttpServletRequestBuilder etapa3 = post("/objetivos/novo/etapa3/" + rascunhoId);
+        for (MiniTema miniTema : miniTemas) {
+            etapa3.param("miniTemaIds", String.valueOf(miniTema.getId())).param("cargas", "6");
+        }
+        executar(etapa3, resultado).verificarOrcamento(5).verificarSemRepeticao(4);
+        assertThat(resultado[0].getResponse().getRedirectedUrl()).isEqualTo("/objetivos/novo/etapa4/" + rascunhoId);
+
+        executar(get("/objetivos/novo/etapa4/" + rascunhoId)).verificarOrcamento(5).verificarSemRepeticao(4);
+
+        executar(post("/objetivos/novo/etapa4/" + rascunhoId)
+                .param("horasPorDia", "2")
+                .param("diasEstudo", TODOS_OS_DIAS), resultado)
+                .verificarOrcamento(12)
+                .verificarSemRepeticao(4);
+        assertThat(resultado[0].getResponse().getRedirectedUrl()).matches("/objetivos/\\d+/geracao");
+    }
+
+    private RegistroSql executar(MockHttpServletRequestBuilder requisicao) {
+        return executar(requisicao, new MvcResult[1]);
+    }
+
+    private RegistroSql executar(MockHttpServletRequestBuilder requisicao, MvcResult[] resultado) {
+        requisicao.with(autenticado(usuario));
+        if (cookieSessao != null) {
+            requisicao.cookie(cookieSessao);
+        }
+
+        RegistroSql registro = ContadorSql.medir(() -> {
+            try {
+                resultado[0] = mockMvc.perform(requisicao).andReturn();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(resultado[0].getResponse().getStatus()).isLessThan(400);
+        Cookie novoCookie = resultado[0].getResponse().getCookie("SESSION");
+        if (novoCookie != null) {
+            cookieSessao = novoCookie;
+        }
+        return registro;
+    }
+}
@@ -0,0 +1,76 @@
+package com.estudos.planner.controller;
+
+import com.estudos.planner.PlannerIntegracaoTest;
+import com.estudos.planner.config.ContadorSql;
+import com.estudos.planner.config.RegistroSql;
+import com.estudos.planner.model.Tarefa;
+import com.estudos.planner.model.Usuario;
+import com.estudos.planner.repository.TarefaRepository;
+import com.estudos.planner.service.TarefaService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class DashboardControllerTest extends PlannerIntegracaoTest {
+
+    // Acima do tamanho da página (planner.objetivos.pagina.tamanho=12), para os dois cenários contarem os objetivos
+    private static final int OBJETIVOS = 13;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Test
+    void quantidadeDeInstrucoesNaoDependeDoNumeroDeObjetivos() {
+        Usuario poucos = usuarioComObjetivos(OBJETIVOS);
+        Usuario muitos = usuarioComObjetivos(OBJETIVOS * 10);
+
+        MvcResult[] resultado = new MvcResult[1];
+        RegistroSql comPoucos = ContadorSql.medir(() -> resultado[0] = dashboard(poucos));
+        Map<String, Object> modeloPoucos = resultado[0].getModelAndView().getModel();
+        RegistroSql comMuitos = ContadorSql.medir(() -> resultado[0] = dashboard(muitos));
+        Map<String, Object> modeloMuitos = resultado[0].getModelAndView().getModel();
+
+        assertThat(modeloPoucos.get("totalObjetivos")).isEqualTo((long) OBJETIVOS);
+        assertThat(modeloMuitos.get("totalObjetivos")).isEqualTo((long) OBJETIVOS * 10);
+        assertThat(((List<?>) modeloPoucos.get("tarefasAtrasadas")).size()).isEqualTo(OBJETIVOS);
+        assertThat(((List<?>) modeloMuitos.get("tarefasAtrasadas")).size()).isEqualTo(OBJETIVOS * 10);
+        assertThat(((List<?>) modeloMuitos.get("tarefasHoje")).size()).isEqualTo(OBJETIVOS * 10);
+
+        assertThat(comMuitos.getTotal()).isEqualTo(comPoucos.getTotal());
+        comMuitos.verificarOrcamento(3).verificarSemRepeticao(2);
+    }
+
+    private Usuario usuarioComObjetivos(int quantidade) {
+        Usuario usuario = novoUsuario();
+        LocalDate hoje = LocalDate.now();
+
+        for (int i = 1; i <= quantidade; i++) {
+            Long objetivoId = criarObjetivoComPlano(usuario, "Tema " + i);
+            List<Tarefa> tarefas = tarefaRepository.findByObjetivoIdOrderByDataAgendadaAsc(objetivoId);
+            tarefaService.reagendar(tarefas.get(0).getId(), hoje.minusDays(1));
+            tarefaService.reagendar(tarefas.get(1).getId(), hoje);
+        }
+
+        return usuario;
+    }
+
+    private MvcResult dashboard(Usuario usuario) {
+        try {
+            MvcResult resultado = mockMvc.perform(get("/dashboard").with(autenticado(usuario))).andReturn();
+            assertThat(resultado.getResponse().getStatus()).isEqualTo(200);
+            return resultado;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
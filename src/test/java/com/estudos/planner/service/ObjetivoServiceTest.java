@@ -0,0 +1,92 @@
+package com.estudos.planner.service;
+
+import com.estudos.planner.PlannerIntegracaoTest;
+import com.estudos.planner.config.ContadorSql;
+import com.estudos.planner.config.RegistroSql;
+import com.estudos.planner.model.Objetivo;
+import com.estudos.planner.model.Tarefa;
+import com.estudos.planner.model.TipoSessao;
+import com.estudos.planner.model.Usuario;
+import com.estudos.planner.repository.ObjetivoRepository;
+import com.estudos.planner.repository.TarefaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class ObjetivoServiceTest extends PlannerIntegracaoTest {
+
+    private static final int REPETICOES = 5;
+
+    @Autowired
+    private ObjetivoRepository objetivoRepository;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Test
+    void exclusaoExecutaAsMesmasInstrucoesComPoucasOuMuitasTarefas() {
+        Usuario usuario = novoUsuario();
+
+        RegistroSql comPoucas = excluir(usuario, 10);
+        RegistroSql comMuitas = excluir(usuario, 1000);
+
+        assertThat(comMuitas.getTotal()).isEqualTo(comPoucas.getTotal());
+        comMuitas.verificarOrcamento(6).verificarSemRepeticao(2);
+    }
+
+    private RegistroSql excluir(Usuario usuario, int tarefas) {
+        RegistroSql ultimo = null;
+        long totalNanos = 0;
+
+        // A primeira exclusão de cada tamanho só aquece o JIT e os caches de consulta, e fica fora da média
+        for (int i = 0; i <= REPETICOES; i++) {
+            Long objetivoId = objetivoComTarefas(usuario, tarefas);
+
+            long inicio = System.nanoTime();
+            ultimo = ContadorSql.medir(() -> objetivoService.excluir(objetivoId));
+            if (i > 0) {
+                totalNanos += System.nanoTime() - inicio;
+            }
+
+            assertThat(objetivoRepository.existsById(objetivoId)).isFalse();
+            assertThat(tarefaRepository.findByObjetivoIdOrderByDataAgendadaAsc(objetivoId)).isEmpty();
+        }
+
+        log.info("Exclusão de objetivo com {} tarefas: {} instruções SQL, média de {} ms em {} exclusões",
+                tarefas, ultimo.getTotal(), String.format("%.1f", totalNanos / 1e6 / REPETICOES), REPETICOES);
+        return ultimo;
+    }
+
+    private Long objetivoComTarefas(Usuario usuario, int quantidade) {
+        Long objetivoId = criarObjetivoComPlano(usuario, "Exclusão " + quantidade);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Objetivo objetivo = objetivoRepository.findById(objetivoId).orElseThrow();
+            tarefaRepository.excluirPorObjetivoId(objetivoId);
+
+            List<Tarefa> tarefas = new ArrayList<>();
+            for (int i = 0; i < quantidade; i++) {
+                Tarefa tarefa = new Tarefa();
+                tarefa.setObjetivo(objetivo);
+                tarefa.setMiniTema(objetivo.getMiniTemas().get(i % objetivo.getMiniTemas().size()));
+                tarefa.setDataAgendada(LocalDate.now().plusDays(1 + i % 30));
+                tarefa.setDuracao(60);
+                tarefa.setTipoSessao(TipoSessao.FUNDAMENTOS);
+                tarefa.setParte(i + 1);
+                tarefa.setConcluida(i % 3 == 0);
+                tarefas.add(tarefa);
+            }
+            tarefaRepository.saveAll(tarefas);
+            objetivo.reiniciarProgresso(quantidade);
+        });
+
+        return objetivoId;
+    }
+}
@@ -0,0 +1,92 @@
+package com.estudos.planner.service;
+
+import com.estudos.planner.PlannerIntegracaoTest;
+import com.estudos.planner.dto.MiniTemaDTO;
+import com.estudos.planner.model.Usuario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RascunhoObjetivoServiceTest extends PlannerIntegracaoTest {
+
+    @Autowired
+    private RascunhoObjetivoService rascunhoObjetivoService;
+
+    @Value("${planner.rascunho.maximo-por-sessao}")
+    private int maximoPorSessao;
+
+    @Value("${planner.rascunho.mini-temas.maximo}")
+    private int maximoMiniTemas;
+
+    @BeforeEach
+    void abrirSessao() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void fecharSessao() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void descartaORascunhoMaisAntigoAoPassarDoLimiteDaSessao() {
+        Usuario usuario = novoUsuario();
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i <= maximoPorSessao + 1; i++) {
+            ids.add(rascunhoObjetivoService.criar(usuario.getId(), "Rascunho " + i, LocalDate.now().plusDays(30)));
+        }
+
+        for (Long descartado : ids.subList(0, 2)) {
+            assertThatThrownBy(() -> rascunhoObjetivoService.buscar(descartado))
+                    .hasMessageStartingWith("Rascunho expirado ou não encontrado");
+        }
+        for (Long mantido : ids.subList(2, ids.size())) {
+            assertThat(rascunhoObjetivoService.buscar(mantido).getId()).isEqualTo(mantido);
+        }
+    }
+
+    @Test
+    void continuarUmRascunhoExistenteNaoDescartaOsDemais() {
+        Usuario usuario = novoUsuario();
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < maximoPorSessao; i++) {
+            ids.add(rascunhoObjetivoService.criar(usuario.getId(), "Rascunho " + i, LocalDate.now().plusDays(30)));
+        }
+        rascunhoObjetivoService.configurarRotina(ids.get(0), 2, TODOS_OS_DIAS);
+
+        for (Long id : ids) {
+            assertThat(rascunhoObjetivoService.buscar(id).getId()).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void recusaMaisMiniTemasQueOLimite() {
+        Long id = rascunhoObjetivoService.criar(novoUsuario().getId(), "Muitos mini-temas", LocalDate.now().plusDays(30));
+
+        List<MiniTemaDTO> miniTemas = IntStream.rangeClosed(1, maximoMiniTemas + 1)
+                .mapToObj(i -> new MiniTemaDTO("Mini-tema " + i, "", 2, true, false))
+                .toList();
+
+        assertThatThrownBy(() -> rascunhoObjetivoService.adicionarMiniTemas(id, miniTemas))
+                .hasMessageContaining(String.valueOf(maximoMiniTemas));
+        assertThat(rascunhoObjetivoService.buscar(id).getMiniTemas()).isEmpty();
+
+        rascunhoObjetivoService.adicionarMiniTemas(id, miniTemas.subList(0, maximoMiniTemas));
+        assertThat(rascunhoObjetivoService.buscar(id).getMiniTemas()).hasSize(maximoMiniTemas);
+    }
+}
@@ -0,0 +1,128 @@
+package com.estudos.planner.service;
+
+import com.estudos.planner.PlannerIntegracaoTest;
+import com.estudos.planner.model.Objetivo;
+import com.estudos.planner.model.Tarefa;
+import com.estudos.planner.repository.TarefaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class TarefaServiceConcorrenciaTest extends PlannerIntegracaoTest {
+
+    private static final int THREADS_ALTERNANDO = 8;
+    private static final int OPERACOES_POR_THREAD = 60;
+    private static final long INTERVALO_REPLANEJAMENTO_MS = 250;
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private RetentativaService retentativaService;
+
+    @Test
+    void alternanciasEReplanejamentosParalelosNaoPerdemAtualizacoes() throws Exception {
+        Long objetivoId = criarObjetivoComPlano(novoUsuario(), "Concorrência");
+
+        AtomicInteger aplicadas = new AtomicInteger();
+        AtomicInteger conflitos = new AtomicInteger();
+        AtomicInteger removidas = new AtomicInteger();
+        AtomicInteger replanejamentos = new AtomicInteger();
+        CountDownLatch alternanciasConcluidas = new CountDownLatch(THREADS_ALTERNANDO);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_ALTERNANDO + 1);
+        List<Future<?>> tarefas = new ArrayList<>();
+        long inicio = System.nanoTime();
+
+        for (int t = 0; t < THREADS_ALTERNANDO; t++) {
+            tarefas.add(executor.submit(() -> {
+                try {
+                    alternar(objetivoId, aplicadas, conflitos, removidas);
+                } finally {
+                    alternanciasConcluidas.countDown();
+                }
+            }));
+        }
+
+        tarefas.add(executor.submit(() -> {
+            while (!alternanciasConcluidas.await(INTERVALO_REPLANEJAMENTO_MS, TimeUnit.MILLISECONDS)) {
+                try {
+                    retentativaService.executar("replanejar objetivo " + objetivoId, () -> {
+                        Objetivo objetivo = objetivoService.buscarParaAtualizacao(objetivoId);
+                        return cronogramaService.distribuirCargaHoraria(objetivo);
+                    });
+                    replanejamentos.incrementAndGet();
+                } catch (ConcurrencyFailureException e) {
+                    conflitos.incrementAndGet();
+                }
+            }
+            return null;
+        }));
+
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        long milissegundos = Math.max(1, (System.nanoTime() - inicio) / 1_000_000);
+        int total = THREADS_ALTERNANDO * OPERACOES_POR_THREAD;
+        log.info("{} alternâncias + {} replanejamentos em {} ms ({} op/s): {} aplicadas, {} conflitos, {} em tarefas removidas",
+                total, replanejamentos.get(), milissegundos, total * 1000L / milissegundos,
+                aplicadas.get(), conflitos.get(), removidas.get());
+
+        Objetivo objetivo = objetivoService.buscarPorId(objetivoId);
+        List<Tarefa> finais = tarefaRepository.findByObjetivoIdOrderByDataAgendadaAsc(objetivoId);
+        List<Tarefa> concluidas = finais.stream().filter(Tarefa::getConcluida).toList();
+
+        assertThat(objetivo.getTotalTarefas()).isEqualTo(finais.size());
+        assertThat(objetivo.getTarefasConcluidas()).isEqualTo(concluidas.size());
+        assertThat(objetivo.getMinutosConcluidos())
+                .isEqualTo(concluidas.stream().mapToLong(Tarefa::getDuracao).sum());
+
+        assertThat(replanejamentos.get()).isPositive();
+        assertThat(aplicadas.get()).isGreaterThan(total / 2);
+    }
+
+    private void alternar(Long objetivoId, AtomicInteger aplicadas, AtomicInteger conflitos, AtomicInteger removidas) {
+        for (int i = 0; i < OPERACOES_POR_THREAD; i++) {
+            List<Tarefa> atuais = tarefaRepository.findByObjetivoIdOrderByDataAgendadaAsc(objetivoId);
+            if (atuais.isEmpty()) {
+                continue;
+            }
+            Tarefa tarefa = atuais.get(ThreadLocalRandom.current().nextInt(atuais.size()));
+            try {
+                if (ThreadLocalRandom.current().nextBoolean()) {
+                    tarefaService.concluir(tarefa.getId());
+                } else {
+                    tarefaService.desmarcarConclusao(tarefa.getId());
+                }
+                aplicadas.incrementAndGet();
+            } catch (ConcurrencyFailureException e) {
+                conflitos.incrementAndGet();
+            } catch (RuntimeException e) {
+                // Só é esperado quando um replanejamento apagou a tarefa entre a leitura e a alteração
+                if (!String.valueOf(e.getMessage()).startsWith("Tarefa não encontrada") || tarefaRepository.existsById(tarefa.getId())) {
+                    throw e;
+                }
+                removidas.incrementAndGet();
+            }
+        }
+    }
+}